@@ -0,0 +1,65 @@
+package com.levelupjourney.microservicecommunity.bounded.benchmarks;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.SampleAggregateResourceFromEntityAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.SampleAggregateResourceFromSummaryAssembler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the transformation from aggregates and projections to REST resources.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SampleAggregateAssemblerBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private SampleAggregateRoot aggregate;
+    private SampleAggregateSummary summary;
+    private Page<SampleAggregateSummary> summaryPage;
+
+    @Setup
+    public void setUp() {
+        MappingMongoConverter converter = SampleAggregateBenchmarkData.converter();
+        aggregate = SampleAggregateBenchmarkData.aggregate(converter, 1, 10);
+
+        List<SampleAggregateSummary> summaries = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            summaries.add(SampleAggregateBenchmarkData.summary(converter, i));
+        }
+        summary = summaries.getFirst();
+        summaryPage = new PageImpl<>(summaries, PageRequest.of(0, PAGE_SIZE), 1000);
+    }
+
+    @Benchmark
+    public SampleAggregateResource toResourceFromEntity() {
+        return SampleAggregateResourceFromEntityAssembler.toResourceFromEntity(aggregate);
+    }
+
+    @Benchmark
+    public SampleAggregateResource toResourceFromSummary() {
+        return SampleAggregateResourceFromSummaryAssembler.toResourceFromSummary(summary);
+    }
+
+    @Benchmark
+    public Page<SampleAggregateResource> mapPage() {
+        return summaryPage.map(SampleAggregateResourceFromSummaryAssembler::toResourceFromSummary);
+    }
+}
@@ -0,0 +1,129 @@
+package com.levelupjourney.microservicecommunity.bounded.benchmarks;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.converters.SampleAggregateConverters;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.projection.EntityProjection;
+import org.springframework.data.projection.EntityProjectionIntrospector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Shared fixtures for the sample aggregate benchmarks.
+ * Aggregates are materialized through the converter, as they are when loaded
+ * from MongoDB, so they carry an ID, audit timestamps and a value object.
+ */
+final class SampleAggregateBenchmarkData {
+
+    private SampleAggregateBenchmarkData() {}
+
+    /**
+     * Creates a converter set up like the one of MongoDbConfiguration.
+     * 
+     * @return the initialized converter
+     */
+    static MappingMongoConverter converter() {
+        return converter(true);
+    }
+
+    /**
+     * Creates a converter, with or without the hand-written converters of the
+     * embedded types.
+     * 
+     * @param handWritten whether to register SampleAggregateConverters
+     * @return the initialized converter
+     */
+    static MappingMongoConverter converter(boolean handWritten) {
+        MongoCustomConversions conversions = new MongoCustomConversions(
+            handWritten ? SampleAggregateConverters.converters() : Collections.emptyList());
+
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    /**
+     * Creates a stored sample aggregate document.
+     * 
+     * @param index number used to derive unique identifiers
+     * @param entities number of embedded entities
+     * @return the document as stored in the sample_aggregates collection
+     */
+    static Document document(int index, int entities) {
+        Date now = new Date();
+        List<Document> sampleEntities = new ArrayList<>(entities);
+        for (int i = 0; i < entities; i++) {
+            sampleEntities.add(new Document("entity_id", "ENT-" + index + "-" + i)
+                .append("name", "Entity " + i)
+                .append("type", i % 2 == 0 ? "PRIMARY" : "SECONDARY")
+                .append("value", i * 10.5)
+                .append("created_at", now)
+                .append("is_active", true));
+        }
+
+        return new Document("_id", new ObjectId())
+            .append("business_id", String.format("BIZ-%06d", index))
+            .append("name", "Sample aggregate " + index)
+            .append("description", "Sample aggregate used by the benchmarks")
+            .append("status", "ACTIVE")
+            .append("sample_entities", sampleEntities)
+            .append("sample_value_object", new Document("code", "CODE-" + index)
+                .append("display_name", "Display " + index)
+                .append("category", "Benchmarks")
+                .append("priority", 5))
+            .append("created_at", now)
+            .append("updated_at", now)
+            .append("_class", SampleAggregateRoot.class.getName());
+    }
+
+    /**
+     * Creates a loaded sample aggregate.
+     * 
+     * @param converter the converter used to read the aggregate
+     * @param index number used to derive unique identifiers
+     * @param entities number of embedded entities
+     * @return the aggregate
+     */
+    static SampleAggregateRoot aggregate(MappingMongoConverter converter, int index, int entities) {
+        return converter.read(SampleAggregateRoot.class, document(index, entities));
+    }
+
+    /**
+     * Describes the summary projection of the aggregate, as the repositories do.
+     * 
+     * @param converter the converter used to read projections
+     * @return the projection descriptor
+     */
+    static EntityProjection<SampleAggregateSummary, SampleAggregateRoot> summaryProjection(MappingMongoConverter converter) {
+        return EntityProjectionIntrospector.create(
+                converter.getProjectionFactory(),
+                EntityProjectionIntrospector.ProjectionPredicate.typeHierarchy(),
+                converter.getMappingContext())
+            .introspect(SampleAggregateSummary.class, SampleAggregateRoot.class);
+    }
+
+    /**
+     * Creates a loaded sample aggregate projection.
+     * 
+     * @param converter the converter used to read the projection
+     * @param index number used to derive unique identifiers
+     * @return the aggregate projection
+     */
+    static SampleAggregateSummary summary(MappingMongoConverter converter, int index) {
+        return converter.project(summaryProjection(converter), document(index, 0));
+    }
+}
@@ -0,0 +1,100 @@
+package com.levelupjourney.microservicecommunity.bounded.benchmarks;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the sample aggregate all the way to and from BSON bytes, as
+ * sent to and received from MongoDB, with and without the hand-written
+ * converters of the embedded types.
+ *
+ * The encoded size is reported by the bytes and documents counters: their
+ * ratio is the number of bytes per document. It is the same with and without
+ * the converters, as the stored layout is unchanged.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SampleAggregateBsonEncodingBenchmark {
+
+    @Param({"0", "10", "100"})
+    public int entities;
+
+    @Param({"true", "false"})
+    public boolean handWrittenConverters;
+
+    private final DocumentCodec codec = new DocumentCodec();
+
+    private MappingMongoConverter converter;
+    private SampleAggregateRoot aggregate;
+    private byte[] encoded;
+
+    /**
+     * Encoded bytes and documents, reported by JMH as rates.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class EncodedSize {
+        public long bytes;
+        public long documents;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            documents = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        converter = SampleAggregateBenchmarkData.converter(handWrittenConverters);
+        aggregate = SampleAggregateBenchmarkData.aggregate(converter, 1, entities);
+        encoded = encode(aggregate);
+    }
+
+    @Benchmark
+    public byte[] encode(EncodedSize size) {
+        byte[] bytes = encode(aggregate);
+        size.bytes += bytes.length;
+        size.documents++;
+        return bytes;
+    }
+
+    @Benchmark
+    public SampleAggregateRoot decode() {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(encoded))) {
+            Document document = codec.decode(reader, DecoderContext.builder().build());
+            return converter.read(SampleAggregateRoot.class, document);
+        }
+    }
+
+    private byte[] encode(SampleAggregateRoot source) {
+        Document document = new Document();
+        converter.write(source, document);
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            codec.encode(writer, document, EncoderContext.builder().build());
+        }
+        return buffer.toByteArray();
+    }
+}
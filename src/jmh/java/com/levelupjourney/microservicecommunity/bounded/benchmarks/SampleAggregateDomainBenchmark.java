@@ -0,0 +1,81 @@
+package com.levelupjourney.microservicecommunity.bounded.benchmarks;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.entities.SampleEntity;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.SampleValueObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the sample aggregate domain model: construction, business
+ * methods and value object equality.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SampleAggregateDomainBenchmark {
+
+    private SampleAggregateRoot aggregate;
+    private SampleValueObject valueObject;
+    private SampleValueObject equalValueObject;
+    private boolean toggle;
+
+    @Setup
+    public void setUp() {
+        aggregate = new SampleAggregateRoot("BIZ-000001", "Sample aggregate", "Description");
+        valueObject = new SampleValueObject("code-1", "Display", "Benchmarks", 5);
+        equalValueObject = new SampleValueObject("code-1", "Display", "Benchmarks", 5);
+    }
+
+    @Benchmark
+    public SampleAggregateRoot construct() {
+        return new SampleAggregateRoot("BIZ-000001", "Sample aggregate", "Description");
+    }
+
+    /**
+     * Updates the same aggregate, clearing its pending events as a write does,
+     * so its outbox does not grow across invocations.
+     */
+    @Benchmark
+    public SampleAggregateRoot updateDetails() {
+        toggle = !toggle;
+        aggregate.updateDetails(toggle ? "Renamed aggregate" : "Sample aggregate", "Description");
+        aggregate.clearPendingEvents();
+        return aggregate;
+    }
+
+    /**
+     * Fills a new aggregate up to its entity limit, as the limit prevents
+     * adding to the same aggregate across invocations.
+     */
+    @Benchmark
+    public SampleAggregateRoot addSampleEntities() {
+        SampleAggregateRoot filled = new SampleAggregateRoot("BIZ-000001", "Sample aggregate", "Description");
+        for (int i = 0; i < 10; i++) {
+            filled.addSampleEntity(new SampleEntity("ENT-" + i, "Entity", "PRIMARY", 10.5));
+        }
+        return filled;
+    }
+
+    @Benchmark
+    public SampleValueObject constructValueObject() {
+        return new SampleValueObject("code-1", "Display", "Benchmarks", 5);
+    }
+
+    @Benchmark
+    public int valueObjectHashCode() {
+        return valueObject.hashCode();
+    }
+
+    @Benchmark
+    public boolean valueObjectEquals() {
+        return valueObject.equals(equalValueObject);
+    }
+}
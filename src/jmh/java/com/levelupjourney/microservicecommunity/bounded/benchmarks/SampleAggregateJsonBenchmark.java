@@ -0,0 +1,84 @@
+package com.levelupjourney.microservicecommunity.bounded.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.SampleAggregateResourceFromSummaryAssembler;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the JSON encoding and decoding of single and paged responses,
+ * using an ObjectMapper configured with Spring Boot's defaults.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SampleAggregateJsonBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    /**
+     * Client-side view of a paged response.
+     */
+    public record PageContent(List<SampleAggregateResource> content, long totalElements) {
+    }
+
+    private ObjectMapper objectMapper;
+    private SampleAggregateResource resource;
+    private Page<SampleAggregateResource> page;
+    private byte[] resourceJson;
+    private byte[] pageJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        MappingMongoConverter converter = SampleAggregateBenchmarkData.converter();
+        List<SampleAggregateResource> resources = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            SampleAggregateSummary summary = SampleAggregateBenchmarkData.summary(converter, i);
+            resources.add(SampleAggregateResourceFromSummaryAssembler.toResourceFromSummary(summary));
+        }
+        resource = resources.getFirst();
+        page = new PageImpl<>(resources, PageRequest.of(0, PAGE_SIZE), 1000);
+
+        resourceJson = objectMapper.writeValueAsBytes(resource);
+        pageJson = objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encodeResource() throws IOException {
+        return objectMapper.writeValueAsBytes(resource);
+    }
+
+    @Benchmark
+    public SampleAggregateResource decodeResource() throws IOException {
+        return objectMapper.readValue(resourceJson, SampleAggregateResource.class);
+    }
+
+    @Benchmark
+    public byte[] encodePage() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public PageContent decodePage() throws IOException {
+        return objectMapper.readValue(pageJson, PageContent.class);
+    }
+}
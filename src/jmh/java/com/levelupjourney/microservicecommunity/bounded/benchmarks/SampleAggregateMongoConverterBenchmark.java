@@ -0,0 +1,60 @@
+package com.levelupjourney.microservicecommunity.bounded.benchmarks;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.projection.EntityProjection;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of MappingMongoConverter reading and writing the sample aggregate,
+ * by number of embedded entities, and of reading the summary projection.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SampleAggregateMongoConverterBenchmark {
+
+    @Param({"0", "10"})
+    public int entities;
+
+    private MappingMongoConverter converter;
+    private Document document;
+    private SampleAggregateRoot aggregate;
+    private EntityProjection<SampleAggregateSummary, SampleAggregateRoot> summaryProjection;
+
+    @Setup
+    public void setUp() {
+        converter = SampleAggregateBenchmarkData.converter();
+        document = SampleAggregateBenchmarkData.document(1, entities);
+        aggregate = converter.read(SampleAggregateRoot.class, document);
+        summaryProjection = SampleAggregateBenchmarkData.summaryProjection(converter);
+    }
+
+    @Benchmark
+    public SampleAggregateRoot readAggregate() {
+        return converter.read(SampleAggregateRoot.class, document);
+    }
+
+    @Benchmark
+    public SampleAggregateSummary readSummary() {
+        return converter.project(summaryProjection, document);
+    }
+
+    @Benchmark
+    public Document writeAggregate() {
+        Document target = new Document();
+        converter.write(aggregate, target);
+        return target;
+    }
+}
@@ -0,0 +1,90 @@
+package com.levelupjourney.microservicecommunity.bounded.benchmarks;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.projection.EntityProjection;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the read endpoints' summary projection against the full
+ * aggregate, from the BSON bytes received from MongoDB to the mapped object.
+ *
+ * The summary starts from the reply to a query restricted to the summary
+ * fields, so it also saves decoding the embedded entities and value object.
+ * Allocation per read is reported by the gc profiler as gc.alloc.rate.norm.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SampleAggregateSummaryReadBenchmark {
+
+    private static final List<String> SUMMARY_FIELDS =
+        List.of("_id", "business_id", "name", "description", "status", "created_at", "updated_at", "version");
+
+    @Param({"0", "10", "100"})
+    public int entities;
+
+    private final DocumentCodec codec = new DocumentCodec();
+
+    private MappingMongoConverter converter;
+    private EntityProjection<SampleAggregateSummary, SampleAggregateRoot> summaryProjection;
+    private byte[] fullDocument;
+    private byte[] summaryDocument;
+
+    @Setup
+    public void setUp() {
+        converter = SampleAggregateBenchmarkData.converter();
+        summaryProjection = SampleAggregateBenchmarkData.summaryProjection(converter);
+
+        Document document = SampleAggregateBenchmarkData.document(1, entities);
+        Document summary = new Document();
+        SUMMARY_FIELDS.stream()
+            .filter(document::containsKey)
+            .forEach(field -> summary.append(field, document.get(field)));
+        fullDocument = encode(document);
+        summaryDocument = encode(summary);
+    }
+
+    @Benchmark
+    public SampleAggregateRoot readAggregate() {
+        return converter.read(SampleAggregateRoot.class, decode(fullDocument));
+    }
+
+    @Benchmark
+    public SampleAggregateSummary readSummary() {
+        return converter.project(summaryProjection, decode(summaryDocument));
+    }
+
+    private Document decode(byte[] bytes) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes))) {
+            return codec.decode(reader, DecoderContext.builder().build());
+        }
+    }
+
+    private byte[] encode(Document document) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            codec.encode(writer, document, EncoderContext.builder().build());
+        }
+        return buffer.toByteArray();
+    }
+}
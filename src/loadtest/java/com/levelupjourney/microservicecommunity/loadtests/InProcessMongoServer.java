@@ -0,0 +1,65 @@
+package com.levelupjourney.microservicecommunity.loadtests;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.MongoVersion;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * In-memory MongoDB stand-in listening on an ephemeral loopback port.
+ * Speaks the wire protocol, so the application runs unchanged against it.
+ * 
+ * The stand-in reports a MongoDB 6.0 wire version because the Java driver
+ * refuses the older versions it announces by default.
+ */
+final class InProcessMongoServer implements AutoCloseable {
+
+    private static final MongoVersion REPORTED_VERSION = new MongoVersion() {
+        @Override
+        public List<Integer> getVersionArray() {
+            return List.of(6, 0, 0);
+        }
+
+        @Override
+        public int getWireVersion() {
+            return 17;
+        }
+    };
+
+    private final MongoServer server;
+    private final InetSocketAddress address;
+
+    private InProcessMongoServer(MongoServer server, InetSocketAddress address) {
+        this.server = server;
+        this.address = address;
+    }
+
+    /**
+     * Starts a new, empty stand-in.
+     * 
+     * @return the running stand-in
+     */
+    static InProcessMongoServer start() {
+        MemoryBackend backend = new MemoryBackend();
+        backend.version(REPORTED_VERSION);
+        MongoServer server = new MongoServer(backend);
+        return new InProcessMongoServer(server, server.bind());
+    }
+
+    /**
+     * Builds the connection URI of the stand-in.
+     * 
+     * @param databaseName the database to select
+     * @return the MongoDB connection URI
+     */
+    String connectionUri(String databaseName) {
+        return "mongodb://" + address.getHostString() + ":" + address.getPort() + "/" + databaseName;
+    }
+
+    @Override
+    public void close() {
+        server.shutdownNow();
+    }
+}
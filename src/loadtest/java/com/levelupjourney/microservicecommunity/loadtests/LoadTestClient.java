@@ -0,0 +1,93 @@
+package com.levelupjourney.microservicecommunity.loadtests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Blocking HTTP client for the /api/v1/sample-aggregates endpoints.
+ * Requests are sent on the calling thread; the client's own I/O threads
+ * run on the given executor so they can be told apart from the application's.
+ */
+final class LoadTestClient {
+
+    private static final String BASE_PATH = "/api/v1/sample-aggregates";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUri;
+
+    LoadTestClient(int port, Executor executor, ObjectMapper objectMapper) {
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(executor)
+            .build();
+        this.objectMapper = objectMapper;
+        this.baseUri = "http://localhost:" + port + BASE_PATH;
+    }
+
+    HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUri + path)).GET());
+    }
+
+    HttpResponse<String> post(String path, Object body) throws IOException, InterruptedException {
+        return send(jsonRequest(path).POST(publisher(body)));
+    }
+
+    HttpResponse<String> put(String path, Object body) throws IOException, InterruptedException {
+        return send(jsonRequest(path).PUT(publisher(body)));
+    }
+
+    HttpResponse<String> delete(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUri + path)).DELETE());
+    }
+
+    /**
+     * Creates aggregates in batches through the batch endpoint.
+     * 
+     * @param businessIds the business IDs of the aggregates to create
+     * @throws IllegalStateException if a batch is rejected
+     */
+    void seed(List<String> businessIds) throws IOException, InterruptedException {
+        for (int from = 0; from < businessIds.size(); from += 1000) {
+            List<Map<String, String>> items = businessIds.subList(from, Math.min(from + 1000, businessIds.size()))
+                .stream()
+                .map(businessId -> Map.of(
+                    "operation", "CREATE",
+                    "businessId", businessId,
+                    "name", "Aggregate " + businessId,
+                    "description", "Seeded by the load test"))
+                .toList();
+            HttpResponse<String> response = post("/batch", Map.of("items", items));
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+            }
+        }
+    }
+
+    JsonNode readTree(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest.Builder jsonRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path)).header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher publisher(Object body) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        return httpClient.send(builder.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
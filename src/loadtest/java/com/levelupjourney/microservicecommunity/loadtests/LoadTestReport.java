@@ -0,0 +1,64 @@
+package com.levelupjourney.microservicecommunity.loadtests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Results of a load-test run, written as JSON and used as a baseline by later runs.
+ * 
+ * @param javaVersion the Java version the application ran on
+ * @param profiles the Spring profiles the application ran with, variants separated by semicolons
+ * @param concurrency number of client threads, levels separated by commas
+ * @param scenarios the results of each scenario
+ */
+record LoadTestReport(
+    String javaVersion,
+    String profiles,
+    String concurrency,
+    List<ScenarioResult> scenarios
+) {
+
+    /**
+     * Compares this run to a baseline run.
+     * A scenario regresses when it has errors, when its throughput drops, or when its
+     * p99 latency, allocation or MongoDB commands per request grow by more than the tolerance.
+     * 
+     * @param baseline the baseline run
+     * @param tolerance allowed relative change, e.g. 0.2 for 20%
+     * @return descriptions of the regressions, empty if there are none
+     */
+    List<String> regressionsAgainst(LoadTestReport baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (ScenarioResult current : scenarios) {
+            if (current.errors() > 0) {
+                regressions.add(current.scenario() + ": " + current.errors() + " failed requests");
+            }
+
+            ScenarioResult previous = baseline.scenarios().stream()
+                .filter(result -> result.scenario().equals(current.scenario()))
+                .findFirst()
+                .orElse(null);
+            if (previous == null) {
+                continue;
+            }
+
+            if (current.throughputPerSecond() < previous.throughputPerSecond() * (1 - tolerance)) {
+                regressions.add(String.format("%s: throughput %.0f/s, baseline %.0f/s",
+                    current.scenario(), current.throughputPerSecond(), previous.throughputPerSecond()));
+            }
+            if (current.p99Micros() > previous.p99Micros() * (1 + tolerance)) {
+                regressions.add(String.format("%s: p99 %d us, baseline %d us",
+                    current.scenario(), current.p99Micros(), previous.p99Micros()));
+            }
+            if (current.allocatedBytesPerRequest() > previous.allocatedBytesPerRequest() * (1 + tolerance)) {
+                regressions.add(String.format("%s: %d B allocated per request, baseline %d B",
+                    current.scenario(), current.allocatedBytesPerRequest(), previous.allocatedBytesPerRequest()));
+            }
+            if (current.mongoCommandsPerRequest() > previous.mongoCommandsPerRequest() * (1 + tolerance)) {
+                regressions.add(String.format("%s: %.2f MongoDB commands per request, baseline %.2f",
+                    current.scenario(), current.mongoCommandsPerRequest(), previous.mongoCommandsPerRequest()));
+            }
+        }
+        return regressions;
+    }
+}
@@ -0,0 +1,126 @@
+package com.levelupjourney.microservicecommunity.loadtests;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs scenarios as a closed loop: a fixed number of client threads each
+ * send their next request as soon as the previous one is answered.
+ * 
+ * Allocation is measured JVM-wide and the allocation of the client and
+ * MongoDB stand-in threads is subtracted, leaving what the application allocated.
+ */
+final class LoadTestRunner {
+
+    static final String CLIENT_THREAD_PREFIX = "load-test-";
+
+    private static final List<String> HARNESS_THREAD_PREFIXES =
+        List.of(CLIENT_THREAD_PREFIX, "HttpClient-", "mongo-server-");
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadTestClient client;
+    private final ExecutorService workers;
+    private final int concurrency;
+    private final MongoCommandCounter commandCounter;
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final AtomicLong sequence = new AtomicLong();
+
+    LoadTestRunner(LoadTestClient client, ExecutorService workers, int concurrency, MongoCommandCounter commandCounter) {
+        this.client = client;
+        this.workers = workers;
+        this.concurrency = concurrency;
+        this.commandCounter = commandCounter;
+    }
+
+    /**
+     * Prepares, warms up and measures a scenario.
+     * 
+     * @param scenario the scenario to run
+     * @param warmupRequests number of unmeasured requests sent first
+     * @param requests number of measured requests
+     * @return the measurements
+     */
+    ScenarioResult run(LoadTestScenario scenario, int warmupRequests, int requests) throws Exception {
+        scenario.prepare(client);
+        drive(scenario, warmupRequests, new Recorder(HIGHEST_TRACKABLE_MICROS, 3), new LongAdder());
+
+        Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        LongAdder errors = new LongAdder();
+        long commandsBefore = commandCounter.count();
+        long allocatedBefore = threads.getTotalThreadAllocatedBytes();
+        long harnessAllocatedBefore = harnessAllocatedBytes();
+        long startedAt = System.nanoTime();
+
+        drive(scenario, requests, recorder, errors);
+
+        long durationNanos = System.nanoTime() - startedAt;
+        long applicationAllocated = (threads.getTotalThreadAllocatedBytes() - allocatedBefore)
+            - (harnessAllocatedBytes() - harnessAllocatedBefore);
+        long commands = commandCounter.count() - commandsBefore;
+        Histogram latencies = recorder.getIntervalHistogram();
+
+        return new ScenarioResult(
+            scenario.name(),
+            requests,
+            errors.sum(),
+            TimeUnit.NANOSECONDS.toMillis(durationNanos),
+            requests / (durationNanos / 1e9),
+            (double) requests * scenario.itemsPerRequest() / (durationNanos / 1e9),
+            latencies.getValueAtPercentile(50),
+            latencies.getValueAtPercentile(90),
+            latencies.getValueAtPercentile(99),
+            latencies.getValueAtPercentile(99.9),
+            latencies.getMaxValue(),
+            applicationAllocated / requests,
+            (double) commands / requests);
+    }
+
+    private void drive(LoadTestScenario scenario, int requests, Recorder recorder, LongAdder errors) throws Exception {
+        AtomicLong remaining = new AtomicLong(requests);
+        List<Future<?>> running = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            running.add(workers.submit(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    long startedAt = System.nanoTime();
+                    boolean expected;
+                    try {
+                        expected = scenario.execute(client, sequence.getAndIncrement());
+                    } catch (Exception e) {
+                        expected = false;
+                    }
+                    recorder.recordValue(Math.min(
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt), HIGHEST_TRACKABLE_MICROS));
+                    if (!expected) {
+                        errors.increment();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : running) {
+            worker.get();
+        }
+    }
+
+    private long harnessAllocatedBytes() {
+        long allocated = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            String name = thread.getName();
+            if (HARNESS_THREAD_PREFIXES.stream().anyMatch(name::startsWith)) {
+                allocated += Math.max(0, threads.getThreadAllocatedBytes(thread.threadId()));
+            }
+        }
+        return allocated;
+    }
+}
@@ -0,0 +1,41 @@
+package com.levelupjourney.microservicecommunity.loadtests;
+
+/**
+ * A load-test scenario: a kind of request mix sent against the API.
+ */
+interface LoadTestScenario {
+
+    /**
+     * Returns the name the scenario is selected and reported by.
+     * 
+     * @return the scenario name
+     */
+    String name();
+
+    /**
+     * Returns the number of aggregates each request works on, more than one
+     * for batch requests, so batch and single-item scenarios compare per item.
+     * 
+     * @return the items per request
+     */
+    default int itemsPerRequest() {
+        return 1;
+    }
+
+    /**
+     * Creates the data the scenario reads, before warm-up starts.
+     * 
+     * @param client the API client
+     */
+    default void prepare(LoadTestClient client) throws Exception {
+    }
+
+    /**
+     * Sends one request.
+     * 
+     * @param client the API client
+     * @param sequence unique, increasing number of the request within the run
+     * @return true if the response status is one the scenario expects
+     */
+    boolean execute(LoadTestClient client, long sequence) throws Exception;
+}
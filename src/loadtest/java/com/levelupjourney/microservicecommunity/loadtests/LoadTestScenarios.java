@@ -0,0 +1,422 @@
+package com.levelupjourney.microservicecommunity.loadtests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * The scenarios of the load-test suite.
+ */
+final class LoadTestScenarios {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH_SIZE = 100;
+
+    private LoadTestScenarios() {}
+
+    /**
+     * Creates every scenario of the suite.
+     * 
+     * @param aggregates number of aggregates the read and pagination scenarios work on
+     * @param pageDepths pages at which offset and keyset pagination are compared, 1 being the first page
+     * @return the scenarios, in execution order
+     */
+    static List<LoadTestScenario> all(int aggregates, List<Integer> pageDepths) {
+        List<LoadTestScenario> scenarios = new ArrayList<>(List.of(
+            new CreateHeavy(),
+            new BatchCreate(),
+            new UpdateHeavy(aggregates),
+            new BatchUpdate(aggregates),
+            new ZipfianRead(aggregates),
+            new MixedCrud(aggregates),
+            new OffsetPagination(aggregates),
+            new KeysetPagination(aggregates)));
+
+        PageDepthData pageDepthData = new PageDepthData(
+            pageDepths.stream().mapToInt(Integer::intValue).max().orElse(0) * PAGE_SIZE);
+        for (int depth : pageDepths) {
+            scenarios.add(new OffsetPageAtDepth(depth, pageDepthData));
+            scenarios.add(new KeysetPageAtDepth(depth, pageDepthData));
+        }
+        return scenarios;
+    }
+
+    private static List<String> businessIds(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + i).toList();
+    }
+
+    /**
+     * Creates a new aggregate with every request.
+     */
+    static final class CreateHeavy implements LoadTestScenario {
+
+        @Override
+        public String name() {
+            return "create-heavy";
+        }
+
+        @Override
+        public boolean execute(LoadTestClient client, long sequence) throws Exception {
+            String businessId = "create-" + sequence;
+            return client.post("", Map.of("businessId", businessId, "name", "Aggregate " + businessId))
+                .statusCode() == 201;
+        }
+    }
+
+    /**
+     * Creates BATCH_SIZE new aggregates with every request through the batch endpoint,
+     * the batch counterpart of CreateHeavy.
+     */
+    static final class BatchCreate implements LoadTestScenario {
+
+        @Override
+        public String name() {
+            return "batch-create";
+        }
+
+        @Override
+        public int itemsPerRequest() {
+            return BATCH_SIZE;
+        }
+
+        @Override
+        public boolean execute(LoadTestClient client, long sequence) throws Exception {
+            List<Map<String, String>> items = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> "batch-create-" + sequence + "-" + i)
+                .map(businessId -> Map.of("operation", "CREATE", "businessId", businessId, "name", "Aggregate " + businessId))
+                .toList();
+            return allSucceeded(client, client.post("/batch", Map.of("items", items)), "CREATED");
+        }
+    }
+
+    /**
+     * Updates a random aggregate with every request.
+     */
+    static final class UpdateHeavy implements LoadTestScenario {
+
+        private final int aggregates;
+
+        UpdateHeavy(int aggregates) {
+            this.aggregates = aggregates;
+        }
+
+        @Override
+        public String name() {
+            return "update-heavy";
+        }
+
+        @Override
+        public void prepare(LoadTestClient client) throws Exception {
+            client.seed(businessIds("update-", aggregates));
+        }
+
+        @Override
+        public boolean execute(LoadTestClient client, long sequence) throws Exception {
+            String businessId = "update-" + ThreadLocalRandom.current().nextInt(aggregates);
+            return client.put("/" + businessId, Map.of("name", "Updated " + sequence, "description", "Updated"))
+                .statusCode() == 200;
+        }
+    }
+
+    /**
+     * Updates BATCH_SIZE random aggregates with every request through the batch
+     * endpoint, the batch counterpart of UpdateHeavy.
+     */
+    static final class BatchUpdate implements LoadTestScenario {
+
+        private final int aggregates;
+
+        BatchUpdate(int aggregates) {
+            this.aggregates = aggregates;
+        }
+
+        @Override
+        public String name() {
+            return "batch-update";
+        }
+
+        @Override
+        public int itemsPerRequest() {
+            return BATCH_SIZE;
+        }
+
+        @Override
+        public void prepare(LoadTestClient client) throws Exception {
+            client.seed(businessIds("batch-update-", aggregates));
+        }
+
+        @Override
+        public boolean execute(LoadTestClient client, long sequence) throws Exception {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<Map<String, String>> items = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> Map.of(
+                    "operation", "UPDATE",
+                    "businessId", "batch-update-" + random.nextInt(aggregates),
+                    "name", "Updated " + sequence,
+                    "description", "Updated"))
+                .toList();
+            return allSucceeded(client, client.post("/batch", Map.of("items", items)), "UPDATED");
+        }
+    }
+
+    /**
+     * Checks that a batch was accepted and every item has the expected outcome.
+     */
+    private static boolean allSucceeded(LoadTestClient client, HttpResponse<String> response, String outcome)
+            throws Exception {
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        for (JsonNode result : client.readTree(response).path("results")) {
+            if (!outcome.equals(result.path("outcome").asText())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads aggregates by business ID, with a few hot aggregates receiving most reads.
+     */
+    static final class ZipfianRead implements LoadTestScenario {
+
+        private final int aggregates;
+        private ZipfianGenerator ranks;
+
+        ZipfianRead(int aggregates) {
+            this.aggregates = aggregates;
+        }
+
+        @Override
+        public String name() {
+            return "read-heavy-zipfian";
+        }
+
+        @Override
+        public void prepare(LoadTestClient client) throws Exception {
+            client.seed(businessIds("read-", aggregates));
+            ranks = new ZipfianGenerator(aggregates, 0.99);
+        }
+
+        @Override
+        public boolean execute(LoadTestClient client, long sequence) throws Exception {
+            return client.get("/read-" + ranks.next()).statusCode() == 200;
+        }
+    }
+
+    /**
+     * Mixes 10% creates, 60% reads, 20% updates and 10% deactivations.
+     */
+    static final class MixedCrud implements LoadTestScenario {
+
+        private final int aggregates;
+
+        MixedCrud(int aggregates) {
+            this.aggregates = aggregates;
+        }
+
+        @Override
+        public String name() {
+            return "mixed-crud";
+        }
+
+        @Override
+        public void prepare(LoadTestClient client) throws Exception {
+            client.seed(businessIds("mixed-", aggregates));
+        }
+
+        @Override
+        public boolean execute(LoadTestClient client, long sequence) throws Exception {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String businessId = "mixed-" + random.nextInt(aggregates);
+            int operation = random.nextInt(100);
+
+            if (operation < 10) {
+                String newBusinessId = "mixed-new-" + sequence;
+                return client.post("", Map.of("businessId", newBusinessId, "name", "Aggregate " + newBusinessId))
+                    .statusCode() == 201;
+            }
+            if (operation < 70) {
+                return client.get("/" + businessId).statusCode() == 200;
+            }
+            if (operation < 90) {
+                return client.put("/" + businessId, Map.of("name", "Updated " + sequence, "description", "Updated"))
+                    .statusCode() == 200;
+            }
+            // Deactivating an aggregate twice is answered with 409, which is expected here
+            int status = client.delete("/" + businessId).statusCode();
+            return status == 204 || status == 409;
+        }
+    }
+
+    /**
+     * Requests random pages from the second half of the collection with offset pagination.
+     */
+    static final class OffsetPagination implements LoadTestScenario {
+
+        private final int aggregates;
+        private int pages;
+
+        OffsetPagination(int aggregates) {
+            this.aggregates = aggregates;
+        }
+
+        @Override
+        public String name() {
+            return "deep-pagination-offset";
+        }
+
+        @Override
+        public void prepare(LoadTestClient client) throws Exception {
+            client.seed(businessIds("page-", aggregates));
+            long total = client.readTree(client.get("?size=1")).path("totalElements").asLong();
+            pages = (int) Math.max(1, total / PAGE_SIZE);
+        }
+
+        @Override
+        public boolean execute(LoadTestClient client, long sequence) throws Exception {
+            int page = ThreadLocalRandom.current().nextInt(pages / 2, pages);
+            return client.get("?size=" + PAGE_SIZE + "&page=" + page).statusCode() == 200;
+        }
+    }
+
+    /**
+     * Walks the collection page by page with continuation tokens; every client
+     * thread follows its own chain of tokens and restarts at the end.
+     */
+    static final class KeysetPagination implements LoadTestScenario {
+
+        private final int aggregates;
+        private final ThreadLocal<String> nextToken = new ThreadLocal<>();
+
+        KeysetPagination(int aggregates) {
+            this.aggregates = aggregates;
+        }
+
+        @Override
+        public String name() {
+            return "deep-pagination-keyset";
+        }
+
+        @Override
+        public void prepare(LoadTestClient client) throws Exception {
+            client.seed(businessIds("scroll-", aggregates));
+        }
+
+        @Override
+        public boolean execute(LoadTestClient client, long sequence) throws Exception {
+            String token = nextToken.get();
+            HttpResponse<String> response =
+                client.get("/scroll?size=" + PAGE_SIZE + (token != null ? "&token=" + token : ""));
+            if (response.statusCode() != 200) {
+                nextToken.remove();
+                return false;
+            }
+
+            JsonNode next = client.readTree(response).path("nextToken");
+            nextToken.set(next.isTextual() ? next.asText() : null);
+            return true;
+        }
+    }
+
+    /**
+     * Aggregates of the page depth scenarios, seeded once per run by the
+     * first of them to be prepared, enough for the deepest page.
+     */
+    static final class PageDepthData {
+
+        private final int aggregates;
+        private boolean seeded;
+
+        PageDepthData(int aggregates) {
+            this.aggregates = aggregates;
+        }
+
+        synchronized void seed(LoadTestClient client) throws Exception {
+            if (!seeded) {
+                client.seed(businessIds("depth-", aggregates));
+                seeded = true;
+            }
+        }
+    }
+
+    /**
+     * Requests the same page, at a given depth, with offset pagination in the
+     * order keyset pagination walks the collection.
+     */
+    static final class OffsetPageAtDepth implements LoadTestScenario {
+
+        private final int depth;
+        private final PageDepthData data;
+
+        OffsetPageAtDepth(int depth, PageDepthData data) {
+            this.depth = depth;
+            this.data = data;
+        }
+
+        @Override
+        public String name() {
+            return "pagination-offset-page-" + depth;
+        }
+
+        @Override
+        public void prepare(LoadTestClient client) throws Exception {
+            data.seed(client);
+        }
+
+        @Override
+        public boolean execute(LoadTestClient client, long sequence) throws Exception {
+            return client.get("?size=" + PAGE_SIZE + "&page=" + (depth - 1) + "&sort=createdAt,asc&sort=id,asc")
+                .statusCode() == 200;
+        }
+    }
+
+    /**
+     * Requests the same page, at a given depth, with a continuation token,
+     * obtained by walking the pages before it once.
+     */
+    static final class KeysetPageAtDepth implements LoadTestScenario {
+
+        private final int depth;
+        private final PageDepthData data;
+        private String token;
+
+        KeysetPageAtDepth(int depth, PageDepthData data) {
+            this.depth = depth;
+            this.data = data;
+        }
+
+        @Override
+        public String name() {
+            return "pagination-keyset-page-" + depth;
+        }
+
+        @Override
+        public void prepare(LoadTestClient client) throws Exception {
+            data.seed(client);
+            token = null;
+            for (int page = 1; page < depth; page++) {
+                HttpResponse<String> response = client.get(scrollPath(token));
+                JsonNode next = client.readTree(response).path("nextToken");
+                if (response.statusCode() != 200 || !next.isTextual()) {
+                    throw new IllegalStateException("Page " + depth + " cannot be reached, only " + page + " pages exist");
+                }
+                token = next.asText();
+            }
+        }
+
+        @Override
+        public boolean execute(LoadTestClient client, long sequence) throws Exception {
+            return client.get(scrollPath(token)).statusCode() == 200;
+        }
+
+        private static String scrollPath(String token) {
+            return "/scroll?size=" + PAGE_SIZE + (token != null ? "&token=" + token : "");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.levelupjourney.microservicecommunity.loadtests;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the commands the application sends to MongoDB.
+ * Registered as a bean, MongoDbConfiguration adds it to the client.
+ */
+final class MongoCommandCounter implements CommandListener {
+
+    private final LongAdder commands = new LongAdder();
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        commands.increment();
+    }
+
+    /**
+     * Returns the number of commands sent so far.
+     * 
+     * @return the command count
+     */
+    long count() {
+        return commands.sum();
+    }
+}
@@ -0,0 +1,156 @@
+package com.levelupjourney.microservicecommunity.loadtests;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.levelupjourney.microservicecommunity.MicroserviceCommunityApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * End-to-end load test of the /api/v1/sample-aggregates endpoints.
+ * Starts an in-process MongoDB stand-in and the application on a random port,
+ * runs the scenarios and writes a JSON report. When a baseline report is
+ * given, the run fails on regressions beyond the tolerance.
+ * 
+ * Several profile sets can be compared in one run, e.g. Spring MVC against
+ * WebFlux with "default;reactive". Each variant gets a fresh stand-in and
+ * application, and its results are reported as "scenario [variant]".
+ * Likewise several concurrency levels, e.g. 1000 and 10000 open connections
+ * with "default;virtual-threads" to compare platform and virtual threads,
+ * are reported as "scenario @level".
+ * 
+ * Settings are read from system properties:
+ * - loadtest.scenarios: comma-separated scenario names, all by default
+ * - loadtest.concurrency: number of client threads, each holding one connection;
+ *   several levels are separated by commas
+ * - loadtest.requests / loadtest.warmup-requests: requests per scenario
+ * - loadtest.aggregates: aggregates seeded for the read and pagination scenarios
+ * - loadtest.page-depths: comma-separated pages at which offset and keyset pagination are compared
+ * - loadtest.profiles: Spring profiles of the application, e.g. virtual-threads;
+ *   several variants are separated by semicolons, "default" standing for no profile
+ * - loadtest.report: path of the JSON report
+ * - loadtest.baseline / loadtest.tolerance: baseline report and allowed relative change
+ * 
+ * Absolute numbers depend on the machine and on the stand-in, so baselines are
+ * only comparable with runs on the same machine.
+ */
+public final class SampleAggregateLoadTest {
+
+    private static final String DEFAULT_VARIANT = "default";
+
+    private SampleAggregateLoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        // DevTools would restart the application in another class loader, taking this main method with it
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        String concurrencyLevels = System.getProperty("loadtest.concurrency", "32");
+        int requests = Integer.getInteger("loadtest.requests", 20000);
+        int warmupRequests = Integer.getInteger("loadtest.warmup-requests", 5000);
+        int aggregates = Integer.getInteger("loadtest.aggregates", 10000);
+        List<Integer> pageDepths = Arrays.stream(System.getProperty("loadtest.page-depths", "1,100,10000").split(","))
+            .map(String::trim)
+            .filter(depth -> !depth.isEmpty())
+            .map(Integer::valueOf)
+            .toList();
+        String profiles = System.getProperty("loadtest.profiles", "");
+        String scenarioNames = System.getProperty("loadtest.scenarios", "");
+        File reportFile = new File(System.getProperty("loadtest.report", "target/load-test-report.json"));
+        String baselinePath = System.getProperty("loadtest.baseline", "");
+        double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.2"));
+
+        Set<String> selected = Arrays.stream(scenarioNames.split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toSet());
+        List<Integer> levels = Arrays.stream(concurrencyLevels.split(","))
+            .map(String::trim)
+            .filter(level -> !level.isEmpty())
+            .map(Integer::valueOf)
+            .toList();
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        MongoCommandCounter commandCounter = new MongoCommandCounter();
+        AtomicInteger threadCount = new AtomicInteger();
+        int maxConcurrency = levels.stream().mapToInt(Integer::intValue).max().orElseThrow();
+        ExecutorService clientThreads = Executors.newFixedThreadPool(maxConcurrency + 4,
+            runnable -> new Thread(runnable, LoadTestRunner.CLIENT_THREAD_PREFIX + threadCount.incrementAndGet()));
+
+        List<String> variants = Arrays.stream(profiles.split(";"))
+            .map(String::trim)
+            .map(variant -> variant.equals(DEFAULT_VARIANT) ? "" : variant)
+            .toList();
+
+        List<ScenarioResult> results = new ArrayList<>();
+        try {
+            for (String variant : variants) {
+                for (int concurrency : levels) {
+                    String suffix = (levels.size() > 1 ? " @" + concurrency : "")
+                        + (variants.size() > 1 ? " [" + (variant.isEmpty() ? DEFAULT_VARIANT : variant) + "]" : "");
+                    try (InProcessMongoServer mongo = InProcessMongoServer.start();
+                         ConfigurableApplicationContext application = startApplication(mongo, commandCounter, variant)) {
+
+                        int port = Integer.parseInt(application.getEnvironment().getRequiredProperty("local.server.port"));
+                        LoadTestClient client = new LoadTestClient(port, clientThreads, objectMapper);
+                        LoadTestRunner runner = new LoadTestRunner(client, clientThreads, concurrency, commandCounter);
+
+                        for (LoadTestScenario scenario : LoadTestScenarios.all(aggregates, pageDepths)) {
+                            if (!selected.isEmpty() && !selected.contains(scenario.name())) {
+                                continue;
+                            }
+                            ScenarioResult result = runner.run(scenario, warmupRequests, requests)
+                                .named(scenario.name() + suffix);
+                            results.add(result);
+                            print(result);
+                        }
+                    }
+                }
+            }
+        } finally {
+            clientThreads.shutdownNow();
+        }
+
+        LoadTestReport report = new LoadTestReport(Runtime.version().toString(), profiles, concurrencyLevels, results);
+        reportFile.getAbsoluteFile().getParentFile().mkdirs();
+        objectMapper.writeValue(reportFile, report);
+        System.out.println("Load test report written to " + reportFile.getPath());
+
+        if (!baselinePath.isBlank()) {
+            LoadTestReport baseline = objectMapper.readValue(new File(baselinePath), LoadTestReport.class);
+            List<String> regressions = report.regressionsAgainst(baseline, tolerance);
+            regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+            if (!regressions.isEmpty()) {
+                System.exit(1);
+            }
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext startApplication(
+            InProcessMongoServer mongo, MongoCommandCounter commandCounter, String profiles) {
+        return new SpringApplicationBuilder(MicroserviceCommunityApplication.class)
+            .profiles(profiles.isBlank() ? new String[0] : profiles.split(","))
+            .properties(
+                "spring.data.mongodb.uri=" + mongo.connectionUri("microservice-community"),
+                "server.port=0",
+                "logging.level.root=WARN")
+            .initializers(context -> context.getBeanFactory().registerSingleton("mongoCommandCounter", commandCounter))
+            .run();
+    }
+
+    private static void print(ScenarioResult result) {
+        System.out.printf("%-44s %8d req %6d err %10.0f req/s %10.0f items/s  p50 %7d us  p99 %7d us  p99.9 %7d us  %8d B/req  %5.2f mongo/req%n",
+            result.scenario(), result.requests(), result.errors(), result.throughputPerSecond(), result.itemsPerSecond(),
+            result.p50Micros(), result.p99Micros(), result.p999Micros(),
+            result.allocatedBytesPerRequest(), result.mongoCommandsPerRequest());
+    }
+}
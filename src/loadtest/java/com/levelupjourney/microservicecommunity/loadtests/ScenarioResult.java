@@ -0,0 +1,46 @@
+package com.levelupjourney.microservicecommunity.loadtests;
+
+/**
+ * Measurements of one scenario run.
+ * 
+ * @param scenario the scenario name
+ * @param requests number of measured requests
+ * @param errors number of requests with an unexpected status or a failure
+ * @param durationMillis wall-clock duration of the measured requests
+ * @param throughputPerSecond measured requests per second
+ * @param itemsPerSecond aggregates written or read per second, equal to the throughput unless requests are batches
+ * @param p50Micros median latency
+ * @param p90Micros 90th percentile latency
+ * @param p99Micros 99th percentile latency
+ * @param p999Micros 99.9th percentile latency
+ * @param maxMicros maximum latency
+ * @param allocatedBytesPerRequest bytes allocated by the application per request, load-test client and MongoDB stand-in excluded
+ * @param mongoCommandsPerRequest MongoDB commands sent by the application per request
+ */
+record ScenarioResult(
+    String scenario,
+    long requests,
+    long errors,
+    long durationMillis,
+    double throughputPerSecond,
+    double itemsPerSecond,
+    long p50Micros,
+    long p90Micros,
+    long p99Micros,
+    long p999Micros,
+    long maxMicros,
+    long allocatedBytesPerRequest,
+    double mongoCommandsPerRequest
+) {
+
+    /**
+     * Returns the same measurements under another scenario name.
+     * 
+     * @param name the name to report the scenario by
+     * @return the renamed result
+     */
+    ScenarioResult named(String name) {
+        return new ScenarioResult(name, requests, errors, durationMillis, throughputPerSecond, itemsPerSecond,
+            p50Micros, p90Micros, p99Micros, p999Micros, maxMicros, allocatedBytesPerRequest, mongoCommandsPerRequest);
+    }
+}
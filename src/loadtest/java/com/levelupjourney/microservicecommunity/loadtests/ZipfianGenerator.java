@@ -0,0 +1,47 @@
+package com.levelupjourney.microservicecommunity.loadtests;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Draws item ranks from a Zipf distribution: rank 0 is the most popular,
+ * and the popularity of rank k is proportional to 1 / (k + 1)^exponent.
+ * The cumulative distribution is precomputed, so each draw is a binary search.
+ */
+final class ZipfianGenerator {
+
+    private final double[] cumulativeProbabilities;
+
+    /**
+     * Creates a generator.
+     * 
+     * @param items number of items
+     * @param exponent skew of the distribution, 0.99 is the usual choice for hot keys
+     */
+    ZipfianGenerator(int items, double exponent) {
+        if (items <= 0) {
+            throw new IllegalArgumentException("Items must be positive");
+        }
+
+        cumulativeProbabilities = new double[items];
+        double sum = 0;
+        for (int i = 0; i < items; i++) {
+            sum += 1 / Math.pow(i + 1, exponent);
+            cumulativeProbabilities[i] = sum;
+        }
+        for (int i = 0; i < items; i++) {
+            cumulativeProbabilities[i] /= sum;
+        }
+    }
+
+    /**
+     * Draws the next item rank.
+     * 
+     * @return a rank between 0 (inclusive) and the number of items (exclusive)
+     */
+    int next() {
+        int index = Arrays.binarySearch(cumulativeProbabilities, ThreadLocalRandom.current().nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulativeProbabilities.length - 1);
+    }
+}
@@ -0,0 +1,20 @@
+package com.levelupjourney.microservicecommunity.bounded.application.internal.caching;
+
+/**
+ * Names of the caches holding Sample Aggregate read results.
+ * Both caches are keyed by business ID and must be declared in spring.cache.cache-names.
+ */
+public final class SampleAggregateCacheNames {
+
+    /**
+     * Aggregates looked up by business ID.
+     */
+    public static final String AGGREGATES_BY_BUSINESS_ID = "sample-aggregates-by-business-id";
+
+    /**
+     * Results of existence checks by business ID.
+     */
+    public static final String EXISTENCE_BY_BUSINESS_ID = "sample-aggregate-existence";
+
+    private SampleAggregateCacheNames() {}
+}
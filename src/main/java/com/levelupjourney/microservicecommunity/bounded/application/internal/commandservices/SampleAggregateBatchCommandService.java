@@ -0,0 +1,194 @@
+package com.levelupjourney.microservicecommunity.bounded.application.internal.commandservices;
+
+import com.levelupjourney.microservicecommunity.bounded.application.internal.caching.SampleAggregateCacheNames;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.BatchSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.CreateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.DeactivateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.SampleAggregateBatchItemCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.BatchOperationOutcome;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.BatchOperationResult;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.SampleAggregateStatus;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.counters.SampleAggregateCounters;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.filters.SampleAggregateBusinessIdFilter;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories.SampleAggregateBulkWriteResult;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories.SampleAggregateRepository;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command service for handling batches of Sample Aggregate commands.
+ * Sits beside SampleAggregateCommandService for high-volume ingestion.
+ * 
+ * A batch costs two round trips regardless of its size: one lookup of the
+ * current status of every updated or deactivated aggregate, and one unordered
+ * bulk write carrying all inserts, updates and deactivations. The lookup only
+ * decides what is attempted; when another writer changes an aggregate in
+ * between, the bulk write tells which items matched nothing and those are
+ * reported as not found or conflicting, at the cost of a further lookup. Cached reads of every
+ * written aggregate are evicted afterwards, like the single-item path does.
+ */
+@Service
+@Timed(value = "sample.aggregates.commands", histogram = true)
+@Counted(value = "sample.aggregates.commands.failures", recordFailuresOnly = true)
+public class SampleAggregateBatchCommandService {
+
+    private final SampleAggregateRepository sampleAggregateRepository;
+    private final SampleAggregateBusinessIdFilter businessIdFilter;
+    private final CacheManager cacheManager;
+    private final SampleAggregateCounters sampleAggregateCounters;
+
+    public SampleAggregateBatchCommandService(
+            SampleAggregateRepository sampleAggregateRepository,
+            SampleAggregateBusinessIdFilter businessIdFilter,
+            CacheManager cacheManager,
+            SampleAggregateCounters sampleAggregateCounters) {
+        this.sampleAggregateRepository = sampleAggregateRepository;
+        this.businessIdFilter = businessIdFilter;
+        this.cacheManager = cacheManager;
+        this.sampleAggregateCounters = sampleAggregateCounters;
+    }
+
+    /**
+     * Handles a batch of create, update and deactivate commands.
+     * 
+     * @param command the batch command
+     * @return one result per command, in the same order as the commands
+     */
+    public List<BatchOperationResult> handle(BatchSampleAggregateCommand command) {
+        List<SampleAggregateBatchItemCommand> commands = command.commands();
+        BatchOperationResult[] results = new BatchOperationResult[commands.size()];
+
+        Map<String, SampleAggregateStatus> statuses = findStatuses(commands);
+        Set<String> deactivatedInBatch = new HashSet<>();
+
+        List<SampleAggregateRoot> inserts = new ArrayList<>();
+        List<Integer> insertPositions = new ArrayList<>();
+        List<UpdateSampleAggregateCommand> updates = new ArrayList<>();
+        List<Integer> updatePositions = new ArrayList<>();
+        List<DeactivateSampleAggregateCommand> deactivations = new ArrayList<>();
+        List<Integer> deactivationPositions = new ArrayList<>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            switch (commands.get(i)) {
+                case CreateSampleAggregateCommand create -> {
+                    inserts.add(new SampleAggregateRoot(create.businessId(), create.name(), create.description()));
+                    insertPositions.add(i);
+                    results[i] = BatchOperationResult.of(create.businessId(), BatchOperationOutcome.CREATED);
+                }
+                case UpdateSampleAggregateCommand update -> {
+                    if (!statuses.containsKey(update.businessId())) {
+                        results[i] = notFound(update.businessId());
+                    } else {
+                        updates.add(update);
+                        updatePositions.add(i);
+                        results[i] = BatchOperationResult.of(update.businessId(), BatchOperationOutcome.UPDATED);
+                    }
+                }
+                case DeactivateSampleAggregateCommand deactivate -> {
+                    if (!statuses.containsKey(deactivate.businessId())) {
+                        results[i] = notFound(deactivate.businessId());
+                    } else if (statuses.get(deactivate.businessId()) == SampleAggregateStatus.INACTIVE || !deactivatedInBatch.add(deactivate.businessId())) {
+                        results[i] = alreadyInactive(deactivate);
+                    } else {
+                        deactivations.add(deactivate);
+                        deactivationPositions.add(i);
+                        results[i] = BatchOperationResult.of(deactivate.businessId(), BatchOperationOutcome.DEACTIVATED);
+                    }
+                }
+            }
+        }
+
+        SampleAggregateBulkWriteResult written = sampleAggregateRepository.bulkWrite(inserts, updates, deactivations);
+        inserts.forEach(aggregate -> businessIdFilter.register(aggregate.getBusinessId()));
+        evictCachedAggregates(inserts, updates, deactivations);
+        sampleAggregateCounters.recordCreated(
+            SampleAggregateStatus.ACTIVE.name(), inserts.size() - written.rejectedInserts().size());
+        sampleAggregateCounters.recordTransition(
+            SampleAggregateStatus.ACTIVE.name(), SampleAggregateStatus.INACTIVE.name(),
+            deactivations.size() - written.unmatchedDeactivations().size());
+
+        // The lookup only told what to attempt; outcomes of writes that matched nothing come from the bulk write
+        for (Integer rejected : written.rejectedInserts()) {
+            int position = insertPositions.get(rejected);
+            results[position] = new BatchOperationResult(
+                results[position].businessId(),
+                BatchOperationOutcome.CONFLICT,
+                "Aggregate with business ID " + results[position].businessId() + " already exists");
+        }
+        written.unmatchedUpdates().forEach((unmatched, outcome) -> {
+            UpdateSampleAggregateCommand update = updates.get(unmatched);
+            results[updatePositions.get(unmatched)] = outcome == BatchOperationOutcome.NOT_FOUND
+                ? notFound(update.businessId())
+                : new BatchOperationResult(update.businessId(), BatchOperationOutcome.CONFLICT,
+                    "Aggregate with business ID " + update.businessId() + " is no longer at version " + update.expectedVersion());
+        });
+        written.unmatchedDeactivations().forEach((unmatched, outcome) -> {
+            DeactivateSampleAggregateCommand deactivation = deactivations.get(unmatched);
+            results[deactivationPositions.get(unmatched)] = outcome == BatchOperationOutcome.NOT_FOUND
+                ? notFound(deactivation.businessId())
+                : alreadyInactive(deactivation);
+        });
+
+        return List.of(results);
+    }
+
+    private Map<String, SampleAggregateStatus> findStatuses(List<SampleAggregateBatchItemCommand> commands) {
+        Set<String> businessIds = new HashSet<>();
+        for (SampleAggregateBatchItemCommand command : commands) {
+            if (!(command instanceof CreateSampleAggregateCommand)) {
+                businessIds.add(command.businessId());
+            }
+        }
+        if (businessIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, SampleAggregateStatus> statuses = new HashMap<>();
+        for (SampleAggregateRoot aggregate : sampleAggregateRepository.findStatusesByBusinessIdIn(businessIds)) {
+            statuses.put(aggregate.getBusinessId(), aggregate.getStatus());
+        }
+        return statuses;
+    }
+
+    private void evictCachedAggregates(
+            List<SampleAggregateRoot> inserts,
+            List<UpdateSampleAggregateCommand> updates,
+            List<DeactivateSampleAggregateCommand> deactivations) {
+        Cache aggregates = cacheManager.getCache(SampleAggregateCacheNames.AGGREGATES_BY_BUSINESS_ID);
+        Cache existence = cacheManager.getCache(SampleAggregateCacheNames.EXISTENCE_BY_BUSINESS_ID);
+        if (aggregates == null || existence == null) {
+            return;
+        }
+
+        inserts.forEach(aggregate -> {
+            aggregates.evict(aggregate.getBusinessId());
+            existence.evict(aggregate.getBusinessId());
+        });
+        updates.forEach(command -> aggregates.evict(command.businessId()));
+        deactivations.forEach(command -> aggregates.evict(command.businessId()));
+    }
+
+    private static BatchOperationResult alreadyInactive(DeactivateSampleAggregateCommand command) {
+        String reason = command.expectedVersion() == null
+            ? "Aggregate is already inactive"
+            : "Aggregate is already inactive or no longer at version " + command.expectedVersion();
+        return new BatchOperationResult(command.businessId(), BatchOperationOutcome.CONFLICT, reason);
+    }
+
+    private static BatchOperationResult notFound(String businessId) {
+        return new BatchOperationResult(
+            businessId, BatchOperationOutcome.NOT_FOUND, "Aggregate with business ID " + businessId + " not found");
+    }
+}
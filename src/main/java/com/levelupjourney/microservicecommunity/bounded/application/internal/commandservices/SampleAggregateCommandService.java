@@ -1,8 +1,25 @@
 package com.levelupjourney.microservicecommunity.bounded.application.internal.commandservices;
 
+import com.levelupjourney.microservicecommunity.bounded.application.internal.caching.SampleAggregateCacheNames;
 import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.AddSampleEntityCommand;
 import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.CreateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.DeactivateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.RemoveSampleEntityCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.SetSampleEntityActiveCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleEntityCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.entities.SampleEntity;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.SampleAggregateStatus;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.counters.SampleAggregateCounters;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.filters.SampleAggregateBusinessIdFilter;
 import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories.SampleAggregateRepository;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -16,29 +33,49 @@ import java.util.Optional;
  * - Repository usage
  * - Business logic orchestration
  * - Transaction boundaries
+ * 
+ * Writes are not retried here: none of them is idempotent (each increments the
+ * version and appends an outbox event), so transient failures are left to the
+ * driver's retryable writes, which the server applies at most once.
+ * Updates and deactivations may carry the version the client read; a write that
+ * finds the aggregate at another version fails with OptimisticLockingFailureException.
+ * 
+ * Entity commands change the embedded sample_entities array in place. Their
+ * invariants are part of the update filters, so a write that matches nothing is
+ * followed by one lookup that tells which of them did not hold.
  */
 @Service
+@Timed(value = "sample.aggregates.commands", histogram = true)
+@Counted(value = "sample.aggregates.commands.failures", recordFailuresOnly = true)
 public class SampleAggregateCommandService {
 
     private final SampleAggregateRepository sampleAggregateRepository;
+    private final SampleAggregateBusinessIdFilter businessIdFilter;
+    private final SampleAggregateCounters sampleAggregateCounters;
 
-    public SampleAggregateCommandService(SampleAggregateRepository sampleAggregateRepository) {
+    public SampleAggregateCommandService(
+            SampleAggregateRepository sampleAggregateRepository,
+            SampleAggregateBusinessIdFilter businessIdFilter,
+            SampleAggregateCounters sampleAggregateCounters) {
         this.sampleAggregateRepository = sampleAggregateRepository;
+        this.businessIdFilter = businessIdFilter;
+        this.sampleAggregateCounters = sampleAggregateCounters;
     }
 
     /**
      * Handles the creation of a new sample aggregate.
+     * Performs a single insert and relies on the unique business_id index
+     * to reject duplicates, so no existence check round trip is needed.
      * 
      * @param command the create command
-     * @return the ID of the created aggregate
-     * @throws IllegalArgumentException if business rules are violated
+     * @return the created aggregate, as persisted
+     * @throws IllegalStateException if an aggregate with the same business ID already exists
      */
-    public String handle(CreateSampleAggregateCommand command) {
-        // Check business rules - aggregate with same business ID should not exist
-        if (sampleAggregateRepository.existsByBusinessId(command.businessId())) {
-            throw new IllegalArgumentException("Aggregate with business ID " + command.businessId() + " already exists");
-        }
-
+    @Caching(evict = {
+        @CacheEvict(cacheNames = SampleAggregateCacheNames.AGGREGATES_BY_BUSINESS_ID, key = "#command.businessId()"),
+        @CacheEvict(cacheNames = SampleAggregateCacheNames.EXISTENCE_BY_BUSINESS_ID, key = "#command.businessId()")
+    })
+    public SampleAggregateRoot handle(CreateSampleAggregateCommand command) {
         // Create new aggregate using domain logic
         SampleAggregateRoot aggregate = new SampleAggregateRoot(
             command.businessId(),
@@ -46,56 +83,181 @@ public class SampleAggregateCommandService {
             command.description()
         );
 
-        // Save aggregate (this will also publish domain events)
-        SampleAggregateRoot savedAggregate = sampleAggregateRepository.save(aggregate);
-
-        return savedAggregate.getId();
+        // Insert aggregate - the unique business_id index enforces the "no duplicates" rule
+        try {
+            SampleAggregateRoot savedAggregate = sampleAggregateRepository.insert(aggregate);
+            businessIdFilter.register(savedAggregate.getBusinessId());
+            sampleAggregateCounters.recordCreated(savedAggregate.getStatus().name(), 1);
+            return savedAggregate;
+        } catch (DuplicateKeyException e) {
+            throw new IllegalStateException("Aggregate with business ID " + command.businessId() + " already exists", e);
+        }
     }
 
     /**
      * Handles updating an existing aggregate.
+     * The update is applied in place with a single findAndModify; the command
+     * carries the same invariants as SampleAggregateRoot.updateDetails.
      * 
-     * @param businessId the business identifier
-     * @param newName the new name
-     * @param newDescription the new description
-     * @throws IllegalArgumentException if aggregate not found
+     * @param command the update command
+     * @return Optional containing the updated aggregate, empty if not found
+     * @throws OptimisticLockingFailureException if the aggregate is not at the expected version
      */
-    public void updateAggregate(String businessId, String newName, String newDescription) {
-        // Retrieve aggregate
-        Optional<SampleAggregateRoot> optionalAggregate = sampleAggregateRepository.findByBusinessId(businessId);
-        
-        if (optionalAggregate.isEmpty()) {
-            throw new IllegalArgumentException("Aggregate with business ID " + businessId + " not found");
+    @CacheEvict(cacheNames = SampleAggregateCacheNames.AGGREGATES_BY_BUSINESS_ID, key = "#command.businessId()")
+    public Optional<SampleAggregateRoot> handle(UpdateSampleAggregateCommand command) {
+        Optional<SampleAggregateRoot> updatedAggregate =
+            sampleAggregateRepository.updateDetailsByBusinessId(
+                command.businessId(),
+                command.name(),
+                command.description(),
+                command.expectedVersion()
+            );
+
+        if (updatedAggregate.isEmpty() && command.expectedVersion() != null
+                && sampleAggregateRepository.existsByBusinessId(command.businessId())) {
+            throw versionConflict(command.businessId(), command.expectedVersion());
         }
+        return updatedAggregate;
+    }
 
-        SampleAggregateRoot aggregate = optionalAggregate.get();
+    /**
+     * Handles deactivating an aggregate.
+     * The deactivation is applied in place, conditioned on the aggregate not
+     * already being inactive (see SampleAggregateRoot.deactivate).
+     * 
+     * @param command the deactivate command
+     * @return Optional containing the deactivated aggregate, empty if not found
+     * @throws IllegalStateException if the aggregate is already inactive
+     * @throws OptimisticLockingFailureException if the aggregate is not at the expected version
+     */
+    @CacheEvict(cacheNames = SampleAggregateCacheNames.AGGREGATES_BY_BUSINESS_ID, key = "#command.businessId()")
+    public Optional<SampleAggregateRoot> handle(DeactivateSampleAggregateCommand command) {
+        Optional<SampleAggregateRoot> deactivatedAggregate =
+            sampleAggregateRepository.deactivateByBusinessId(command.businessId(), command.expectedVersion());
 
-        // Use domain method to update (maintains business invariants)
-        aggregate.updateDetails(newName, newDescription);
+        // Only a failed write pays for the extra lookup that tells "missing" from "already inactive" or "modified"
+        if (deactivatedAggregate.isEmpty()) {
+            sampleAggregateRepository.findSummaryByBusinessId(command.businessId()).ifPresent(aggregate -> {
+                if (aggregate.status() == SampleAggregateStatus.INACTIVE || command.expectedVersion() == null) {
+                    throw new IllegalStateException("Aggregate is already inactive");
+                }
+                throw versionConflict(command.businessId(), command.expectedVersion());
+            });
+        }
 
-        // Save updated aggregate
-        sampleAggregateRepository.save(aggregate);
+        // Only active aggregates can be deactivated, so the previous status is known
+        deactivatedAggregate.ifPresent(aggregate -> sampleAggregateCounters.recordTransition(
+            SampleAggregateStatus.ACTIVE.name(), SampleAggregateStatus.INACTIVE.name(), 1));
+        return deactivatedAggregate;
     }
 
     /**
-     * Handles deactivating an aggregate.
+     * Handles adding an entity to an aggregate.
      * 
-     * @param businessId the business identifier
-     * @throws IllegalArgumentException if aggregate not found
+     * @param command the add entity command
+     * @return Optional containing the updated aggregate, empty if not found
+     * @throws IllegalStateException if the aggregate already holds the entity ID or the maximum number of entities
+     * @throws OptimisticLockingFailureException if the aggregate is not at the expected version
      */
-    public void deactivateAggregate(String businessId) {
-        Optional<SampleAggregateRoot> optionalAggregate = sampleAggregateRepository.findByBusinessId(businessId);
-        
-        if (optionalAggregate.isEmpty()) {
-            throw new IllegalArgumentException("Aggregate with business ID " + businessId + " not found");
+    @CacheEvict(cacheNames = SampleAggregateCacheNames.AGGREGATES_BY_BUSINESS_ID, key = "#command.businessId()")
+    public Optional<SampleAggregateRoot> handle(AddSampleEntityCommand command) {
+        SampleEntity entity = new SampleEntity(command.entityId(), command.name(), command.type(), command.value());
+        Optional<SampleAggregateRoot> updatedAggregate =
+            sampleAggregateRepository.addSampleEntity(command.businessId(), entity, command.expectedVersion());
+        if (updatedAggregate.isPresent()) {
+            return updatedAggregate;
         }
 
-        SampleAggregateRoot aggregate = optionalAggregate.get();
+        Optional<SampleAggregateRoot> aggregate = findAtExpectedVersion(command.businessId(), command.expectedVersion());
+        aggregate.ifPresent(current -> {
+            if (current.findSampleEntity(command.entityId()).isPresent()) {
+                throw new IllegalStateException("Entity with ID " + command.entityId() + " already exists");
+            }
+            throw new IllegalStateException("Cannot add more than " + SampleAggregateRoot.MAX_SAMPLE_ENTITIES + " entities");
+        });
+        return Optional.empty();
+    }
 
-        // Use domain method to deactivate
-        aggregate.deactivate();
+    /**
+     * Handles updating an entity of an aggregate.
+     * 
+     * @param command the update entity command
+     * @return Optional containing the updated aggregate, empty if the aggregate or entity was not found
+     * @throws OptimisticLockingFailureException if the aggregate is not at the expected version
+     */
+    @CacheEvict(cacheNames = SampleAggregateCacheNames.AGGREGATES_BY_BUSINESS_ID, key = "#command.businessId()")
+    public Optional<SampleAggregateRoot> handle(UpdateSampleEntityCommand command) {
+        Optional<SampleAggregateRoot> updatedAggregate =
+            sampleAggregateRepository.updateSampleEntity(
+                command.businessId(),
+                command.entityId(),
+                command.name(),
+                command.value(),
+                command.expectedVersion()
+            );
+        if (updatedAggregate.isEmpty()) {
+            findAtExpectedVersion(command.businessId(), command.expectedVersion());
+        }
+        return updatedAggregate;
+    }
+
+    /**
+     * Handles activating or deactivating an entity of an aggregate.
+     * Setting an entity to the state it is already in changes nothing and
+     * returns the aggregate as it is.
+     * 
+     * @param command the set entity active command
+     * @return Optional containing the aggregate, empty if the aggregate or entity was not found
+     * @throws OptimisticLockingFailureException if the aggregate is not at the expected version
+     */
+    @CacheEvict(cacheNames = SampleAggregateCacheNames.AGGREGATES_BY_BUSINESS_ID, key = "#command.businessId()")
+    public Optional<SampleAggregateRoot> handle(SetSampleEntityActiveCommand command) {
+        Optional<SampleAggregateRoot> updatedAggregate =
+            sampleAggregateRepository.setSampleEntityActive(
+                command.businessId(), command.entityId(), command.active(), command.expectedVersion());
+        if (updatedAggregate.isPresent()) {
+            return updatedAggregate;
+        }
+
+        // The filter also skips entities already in the requested state
+        return findAtExpectedVersion(command.businessId(), command.expectedVersion())
+            .filter(aggregate -> aggregate.findSampleEntity(command.entityId()).isPresent());
+    }
+
+    /**
+     * Handles removing an entity from an aggregate.
+     * 
+     * @param command the remove entity command
+     * @return Optional containing the updated aggregate, empty if the aggregate or entity was not found
+     * @throws OptimisticLockingFailureException if the aggregate is not at the expected version
+     */
+    @CacheEvict(cacheNames = SampleAggregateCacheNames.AGGREGATES_BY_BUSINESS_ID, key = "#command.businessId()")
+    public Optional<SampleAggregateRoot> handle(RemoveSampleEntityCommand command) {
+        Optional<SampleAggregateRoot> updatedAggregate =
+            sampleAggregateRepository.removeSampleEntity(command.businessId(), command.entityId(), command.expectedVersion());
+        if (updatedAggregate.isEmpty()) {
+            findAtExpectedVersion(command.businessId(), command.expectedVersion());
+        }
+        return updatedAggregate;
+    }
+
+    /**
+     * Loads an aggregate after an entity write that matched nothing, failing
+     * if the write was rejected because the aggregate moved to another version.
+     */
+    private Optional<SampleAggregateRoot> findAtExpectedVersion(String businessId, Long expectedVersion) {
+        Optional<SampleAggregateRoot> aggregate = sampleAggregateRepository.findByBusinessId(businessId);
+        aggregate.ifPresent(current -> {
+            long currentVersion = current.getVersion() == null ? 0 : current.getVersion();
+            if (expectedVersion != null && expectedVersion != currentVersion) {
+                throw versionConflict(businessId, expectedVersion);
+            }
+        });
+        return aggregate;
+    }
 
-        // Save updated aggregate
-        sampleAggregateRepository.save(aggregate);
+    private static OptimisticLockingFailureException versionConflict(String businessId, Long expectedVersion) {
+        return new OptimisticLockingFailureException(
+            "Aggregate with business ID " + businessId + " is no longer at version " + expectedVersion);
     }
 }
@@ -0,0 +1,190 @@
+package com.levelupjourney.microservicecommunity.bounded.application.internal.commandservices;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleAggregateCommand;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind coalescing of detail updates for hot aggregates.
+ *
+ * While enabled, an update is held for a short window. Updates of the same
+ * aggregate arriving within the window are merged into it; an update sets both
+ * name and description, so the merged write is simply the last one received.
+ * The window then ends with a single write through SampleAggregateCommandService.
+ *
+ * Every business ID is bound to one of a fixed number of single-threaded
+ * stripes, so writes of one aggregate never run concurrently and are applied in
+ * the order they were received, while different aggregates flush in parallel.
+ *
+ * Each caller gets a future completed with the result of the write that carried
+ * its update, once that write has been acknowledged by MongoDB, or failed with
+ * its error. Only one updated event is raised per merged write.
+ *
+ * Updates carrying an expected version are never merged, as each of them is
+ * conditional on the state left by the previous one; they are written directly.
+ * Once the stripes are shut down, new windows are written right away instead.
+ */
+@Service
+public class SampleAggregateUpdateCoalescer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SampleAggregateUpdateCoalescer.class);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final SampleAggregateCommandService commandService;
+    private final boolean enabled;
+    private final Duration window;
+    private final ScheduledExecutorService[] stripes;
+    private final ConcurrentHashMap<String, PendingUpdate> pendingUpdates = new ConcurrentHashMap<>();
+    private final DistributionSummary mergedUpdates;
+
+    public SampleAggregateUpdateCoalescer(
+            SampleAggregateCommandService commandService,
+            MeterRegistry meterRegistry,
+            @Value("${sample-aggregates.write-coalescing.enabled:false}") boolean enabled,
+            @Value("${sample-aggregates.write-coalescing.window:PT0.01S}") Duration window,
+            @Value("${sample-aggregates.write-coalescing.stripes:16}") int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Write coalescing stripes must be at least 1");
+        }
+        this.commandService = commandService;
+        this.enabled = enabled;
+        this.window = window;
+        this.stripes = new ScheduledExecutorService[enabled ? stripeCount : 0];
+        for (int i = 0; i < stripes.length; i++) {
+            String name = "update-coalescer-" + i;
+            stripes[i] = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.mergedUpdates = DistributionSummary.builder("sample.aggregates.updates.coalesced")
+            .description("Updates carried by one coalesced write")
+            .baseUnit("updates")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Checks whether an update would be held and merged, rather than written
+     * directly on the submitting thread.
+     *
+     * @param command the update command
+     * @return true while coalescing is enabled, for updates without an expected version
+     */
+    public boolean coalesces(UpdateSampleAggregateCommand command) {
+        return enabled && command.expectedVersion() == null;
+    }
+
+    /**
+     * Submits an update to be written, merged with the other updates of the same
+     * aggregate received within the coalescing window.
+     *
+     * @param command the update command
+     * @return future of the updated aggregate, empty if not found
+     */
+    public CompletableFuture<Optional<SampleAggregateRoot>> submit(UpdateSampleAggregateCommand command) {
+        if (!coalesces(command)) {
+            try {
+                return CompletableFuture.completedFuture(commandService.handle(command));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        CompletableFuture<Optional<SampleAggregateRoot>> result = new CompletableFuture<>();
+        boolean[] opened = new boolean[1];
+        pendingUpdates.compute(command.businessId(), (businessId, pending) -> {
+            if (pending == null) {
+                opened[0] = true;
+                return new PendingUpdate(command, result);
+            }
+            pending.merge(command, result);
+            return pending;
+        });
+
+        if (opened[0]) {
+            try {
+                stripeOf(command.businessId())
+                    .schedule(() -> flush(command.businessId()), window.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // The stripe is shut down and would never flush the window, so it is written here
+                flush(command.businessId());
+            }
+        }
+        return result;
+    }
+
+    private void flush(String businessId) {
+        // Updates arriving from now on open a new window, flushed after this one on the same stripe
+        PendingUpdate pending = pendingUpdates.remove(businessId);
+        if (pending == null) {
+            return;
+        }
+        mergedUpdates.record(pending.results.size());
+        try {
+            Optional<SampleAggregateRoot> updated = commandService.handle(pending.command);
+            pending.results.forEach(result -> result.complete(updated));
+        } catch (RuntimeException e) {
+            pending.results.forEach(result -> result.completeExceptionally(e));
+        }
+    }
+
+    private ScheduledExecutorService stripeOf(String businessId) {
+        return stripes[Math.floorMod(businessId.hashCode(), stripes.length)];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Windows already opened are still flushed: delayed tasks run after shutdown
+        for (ScheduledExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+        try {
+            for (ScheduledExecutorService stripe : stripes) {
+                if (!stripe.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn("Coalesced updates still pending after {}, abandoning them", SHUTDOWN_TIMEOUT);
+                    stripe.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Merged update waiting for its window to end, with the callers waiting for it.
+     * Only accessed under the map entry lock until removed from the map by its flush.
+     */
+    private static final class PendingUpdate {
+
+        private UpdateSampleAggregateCommand command;
+        private final List<CompletableFuture<Optional<SampleAggregateRoot>>> results = new ArrayList<>();
+
+        private PendingUpdate(UpdateSampleAggregateCommand command, CompletableFuture<Optional<SampleAggregateRoot>> result) {
+            this.command = command;
+            this.results.add(result);
+        }
+
+        private void merge(UpdateSampleAggregateCommand newer, CompletableFuture<Optional<SampleAggregateRoot>> result) {
+            this.command = newer;
+            this.results.add(result);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.levelupjourney.microservicecommunity.bounded.application.internal.eventhandlers;
+
+import com.levelupjourney.microservicecommunity.bounded.application.internal.caching.SampleAggregateCacheNames;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.changestreams.SampleAggregateChangedEvent;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.filters.SampleAggregateBusinessIdFilter;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Event handler keeping node-local read state coherent with changes made by any replica.
+ * Evicts cached reads of the changed aggregate and registers newly created
+ * business IDs with the existence filter. When changes were missed, the caches
+ * are cleared and the existence filter is rebuilt.
+ */
+@Service
+public class SampleAggregateChangedEventHandler {
+
+    private final CacheManager cacheManager;
+    private final SampleAggregateBusinessIdFilter businessIdFilter;
+
+    public SampleAggregateChangedEventHandler(CacheManager cacheManager, SampleAggregateBusinessIdFilter businessIdFilter) {
+        this.cacheManager = cacheManager;
+        this.businessIdFilter = businessIdFilter;
+    }
+
+    /**
+     * Handles a change of a sample aggregate document.
+     * When the business ID is unknown, the whole caches are cleared.
+     * 
+     * @param event the change event
+     */
+    @EventListener
+    public void on(SampleAggregateChangedEvent event) {
+        if (event.businessId() != null && event.isInsert()) {
+            businessIdFilter.register(event.businessId());
+        }
+        if (event.isResync()) {
+            businessIdFilter.rebuild();
+        }
+
+        for (String cacheName : new String[] {
+                SampleAggregateCacheNames.AGGREGATES_BY_BUSINESS_ID,
+                SampleAggregateCacheNames.EXISTENCE_BY_BUSINESS_ID}) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                continue;
+            }
+            if (event.businessId() != null) {
+                cache.evict(event.businessId());
+            } else {
+                cache.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.levelupjourney.microservicecommunity.bounded.application.internal.eventhandlers;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleAggregateCreatedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleAggregateDeactivatedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleAggregateUpdatedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleEntityAddedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleEntityRemovedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleEntityUpdatedEvent;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories.SampleAggregateRepository;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.views.SampleAggregateViews;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Event handler maintaining the sample aggregate views.
+ * Events are delivered by the outbox relay, at least once and in order per
+ * aggregate. Each one re-projects the current state of its aggregate rather
+ * than applying the event as a delta, so duplicates and replays are harmless.
+ * A failed projection fails the event, which the relay retries.
+ *
+ * At startup, views missing for aggregates written before the read model
+ * existed are built by a background rebuild.
+ */
+@Service
+public class SampleAggregateViewProjector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SampleAggregateViewProjector.class);
+
+    private final SampleAggregateRepository sampleAggregateRepository;
+    private final SampleAggregateViews sampleAggregateViews;
+    private final boolean enabled;
+
+    public SampleAggregateViewProjector(
+            SampleAggregateRepository sampleAggregateRepository,
+            SampleAggregateViews sampleAggregateViews,
+            @Value("${sample-aggregates.read-model.enabled:true}") boolean enabled) {
+        this.sampleAggregateRepository = sampleAggregateRepository;
+        this.sampleAggregateViews = sampleAggregateViews;
+        this.enabled = enabled;
+    }
+
+    @EventListener
+    public void on(SampleAggregateCreatedEvent event) {
+        project(event.businessId());
+    }
+
+    @EventListener
+    public void on(SampleAggregateUpdatedEvent event) {
+        project(event.businessId());
+    }
+
+    @EventListener
+    public void on(SampleAggregateDeactivatedEvent event) {
+        project(event.businessId());
+    }
+
+    @EventListener
+    public void on(SampleEntityAddedEvent event) {
+        project(event.businessId());
+    }
+
+    @EventListener
+    public void on(SampleEntityUpdatedEvent event) {
+        project(event.businessId());
+    }
+
+    @EventListener
+    public void on(SampleEntityRemovedEvent event) {
+        project(event.businessId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled || !sampleAggregateViews.hasMissingViews()) {
+            return;
+        }
+        Thread rebuild = new Thread(() -> {
+            try {
+                long started = System.nanoTime();
+                long written = sampleAggregateViews.rebuild();
+                LOGGER.info("Rebuilt {} sample aggregate views in {} ms", written, (System.nanoTime() - started) / 1_000_000);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Sample aggregate view rebuild failed, views are completed as aggregates change", e);
+            }
+        }, "read-model-rebuild");
+        rebuild.setDaemon(true);
+        rebuild.start();
+    }
+
+    private void project(String businessId) {
+        if (!enabled) {
+            return;
+        }
+        sampleAggregateRepository.findByBusinessId(businessId).ifPresentOrElse(
+            sampleAggregateViews::project,
+            () -> sampleAggregateViews.remove(businessId));
+    }
+}
@@ -0,0 +1,135 @@
+package com.levelupjourney.microservicecommunity.bounded.application.internal.queryservices;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregateByBusinessIdQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregatesAfterCursorQuery;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.filters.SampleAggregateBusinessIdFilter;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.reactive.repositories.ReactiveSampleAggregateRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking query service for handling Sample Aggregate queries.
+ * Reactive counterpart of SampleAggregateQueryService, active with the reactive profile.
+ * 
+ * Results are not cached here: the shared caches are synchronous and
+ * caching reactive return types would need an asynchronous cache provider.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveSampleAggregateQueryService {
+
+    private final ReactiveSampleAggregateRepository sampleAggregateRepository;
+    private final SampleAggregateBusinessIdFilter businessIdFilter;
+
+    public ReactiveSampleAggregateQueryService(
+            ReactiveSampleAggregateRepository sampleAggregateRepository,
+            SampleAggregateBusinessIdFilter businessIdFilter) {
+        this.sampleAggregateRepository = sampleAggregateRepository;
+        this.businessIdFilter = businessIdFilter;
+    }
+
+    /**
+     * Handles retrieving an aggregate by business ID.
+     * IDs the business ID filter rules out are answered without a database call.
+     * 
+     * @param query the query containing the business ID
+     * @return Mono emitting the aggregate projection, empty if not found
+     */
+    public Mono<SampleAggregateSummary> handle(GetSampleAggregateByBusinessIdQuery query) {
+        if (!businessIdFilter.mightExist(query.businessId())) {
+            return Mono.empty();
+        }
+        return sampleAggregateRepository.findSummaryByBusinessId(query.businessId());
+    }
+
+    /**
+     * Retrieves all active aggregates.
+     * Documents are read from the cursor only as fast as the subscriber requests them.
+     * 
+     * @return Flux of active aggregate projections
+     */
+    public Flux<SampleAggregateSummary> getAllActiveAggregates() {
+        return sampleAggregateRepository.findActiveSummaries();
+    }
+
+    /**
+     * Retrieves aggregates with pagination.
+     * The page content and the total count are queried concurrently.
+     * 
+     * @param pageable pagination information
+     * @return Mono emitting the page of aggregate projections
+     */
+    public Mono<Page<SampleAggregateSummary>> getAllAggregates(Pageable pageable) {
+        return Mono.zip(
+                sampleAggregateRepository.findAllSummaries(pageable).collectList(),
+                sampleAggregateRepository.count())
+            .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+    }
+
+    /**
+     * Retrieves aggregates with keyset pagination.
+     * One extra aggregate is fetched to tell whether another page follows,
+     * so no count is needed.
+     * 
+     * @param query the query containing the cursor position and page size
+     * @return Mono emitting the slice of aggregate projections following the cursor
+     */
+    public Mono<Slice<SampleAggregateSummary>> handle(GetSampleAggregatesAfterCursorQuery query) {
+        return sampleAggregateRepository.findAfter(query.afterCreatedAt(), query.afterId(), query.size() + 1)
+            .collectList()
+            .map(aggregates -> {
+                boolean hasNext = aggregates.size() > query.size();
+                List<SampleAggregateSummary> content = hasNext ? aggregates.subList(0, query.size()) : aggregates;
+                return new SliceImpl<>(content, PageRequest.ofSize(query.size()), hasNext);
+            });
+    }
+
+    /**
+     * Retrieves aggregates by status with pagination.
+     * The page content and the total count are queried concurrently.
+     * 
+     * @param status the status to filter by
+     * @param pageable pagination information
+     * @return Mono emitting the page of aggregate projections with the specified status
+     */
+    public Mono<Page<SampleAggregateSummary>> getAggregatesByStatus(String status, Pageable pageable) {
+        return Mono.zip(
+                sampleAggregateRepository.findSummariesByStatus(status, pageable).collectList(),
+                sampleAggregateRepository.countByStatus(status))
+            .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+    }
+
+    /**
+     * Checks if an aggregate exists by business ID.
+     * IDs the business ID filter rules out are answered without a database call.
+     * 
+     * @param businessId the business ID to check
+     * @return Mono emitting true if aggregate exists
+     */
+    public Mono<Boolean> existsByBusinessId(String businessId) {
+        if (!businessIdFilter.mightExist(businessId)) {
+            return Mono.just(false);
+        }
+        return sampleAggregateRepository.existsByBusinessId(businessId);
+    }
+
+    /**
+     * Counts total number of aggregates.
+     * 
+     * @return Mono emitting the total count
+     */
+    public Mono<Long> getTotalCount() {
+        return sampleAggregateRepository.count();
+    }
+}
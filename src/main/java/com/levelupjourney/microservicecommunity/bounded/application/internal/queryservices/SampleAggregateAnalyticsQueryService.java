@@ -0,0 +1,98 @@
+package com.levelupjourney.microservicecommunity.bounded.application.internal.queryservices;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateCategoryCount;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateStatusCount;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateTimeBucketCount;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleEntityValueTotals;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregateAnalyticsQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregateTimeBucketsQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleEntityValueTotalsQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.TimeBucketGranularity;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories.SampleAggregateRepository;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Query service for Sample Aggregate analytics.
+ * Implements the read side of CQRS pattern for reporting.
+ *
+ * Statistics are computed by aggregation pipelines in MongoDB, so only the
+ * grouped results cross the network, whatever the size of the time range.
+ */
+@Service
+@Timed(value = "sample.aggregates.analytics", histogram = true)
+@Counted(value = "sample.aggregates.analytics.failures", recordFailuresOnly = true)
+public class SampleAggregateAnalyticsQueryService {
+
+    private final SampleAggregateRepository sampleAggregateRepository;
+
+    public SampleAggregateAnalyticsQueryService(SampleAggregateRepository sampleAggregateRepository) {
+        this.sampleAggregateRepository = sampleAggregateRepository;
+    }
+
+    /**
+     * Counts the aggregates created in a time range per status.
+     *
+     * @param query the query containing the time range
+     * @return List of counts ordered by status
+     */
+    public List<SampleAggregateStatusCount> getStatusCounts(GetSampleAggregateAnalyticsQuery query) {
+        return sampleAggregateRepository.countByStatusCreatedBetween(query.from(), query.to());
+    }
+
+    /**
+     * Counts the aggregates created in a time range per value object category and priority.
+     *
+     * @param query the query containing the time range
+     * @return List of counts ordered by category and priority
+     */
+    public List<SampleAggregateCategoryCount> getCategoryCounts(GetSampleAggregateAnalyticsQuery query) {
+        return sampleAggregateRepository.countByCategoryAndPriorityCreatedBetween(query.from(), query.to());
+    }
+
+    /**
+     * Counts the aggregates created per time bucket.
+     * The first bucket starts at the range start truncated to the granularity and
+     * the last one ends at the range end. Buckets without aggregates are included
+     * with a zero count, so the result always covers the whole range.
+     *
+     * @param query the query containing the time range and granularity
+     * @return List of counts, one per bucket, ordered by bucket start
+     */
+    public List<SampleAggregateTimeBucketCount> handle(GetSampleAggregateTimeBucketsQuery query) {
+        TimeBucketGranularity granularity = query.granularity();
+        List<LocalDateTime> bucketStarts = new ArrayList<>();
+        for (LocalDateTime start = granularity.bucketStart(query.from());
+             start.isBefore(query.to());
+             start = granularity.nextBucketStart(start)) {
+            bucketStarts.add(start);
+        }
+        List<LocalDateTime> boundaries = new ArrayList<>(bucketStarts);
+        boundaries.add(query.to());
+
+        Map<LocalDateTime, Long> counts = new HashMap<>();
+        sampleAggregateRepository.countByCreationTimeBuckets(boundaries)
+            .forEach(bucket -> counts.put(bucket.bucketStart(), bucket.count()));
+
+        return bucketStarts.stream()
+            .map(start -> new SampleAggregateTimeBucketCount(start, counts.getOrDefault(start, 0L)))
+            .toList();
+    }
+
+    /**
+     * Sums the values of the entities embedded in the aggregates created in a time range.
+     *
+     * @param query the query containing the time range and business value multiplier
+     * @return the entity value totals
+     */
+    public SampleEntityValueTotals handle(GetSampleEntityValueTotalsQuery query) {
+        return sampleAggregateRepository.sumEntityValuesCreatedBetween(query.from(), query.to(), query.multiplier());
+    }
+}
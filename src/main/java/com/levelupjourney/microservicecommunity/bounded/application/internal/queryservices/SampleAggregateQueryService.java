@@ -1,14 +1,26 @@
 package com.levelupjourney.microservicecommunity.bounded.application.internal.queryservices;
 
-import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.application.internal.caching.SampleAggregateCacheNames;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateCounts;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
 import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregateByBusinessIdQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregatesAfterCursorQuery;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.counters.SampleAggregateCounters;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.filters.SampleAggregateBusinessIdFilter;
 import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories.SampleAggregateRepository;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Query service for handling Sample Aggregate queries.
@@ -18,43 +30,89 @@ import java.util.Optional;
  * - Query handling patterns
  * - Read-only operations
  * - Data projection and transformation
+ * 
+ * Reads return SampleAggregateSummary projections rather than full aggregates,
+ * so embedded entities and value objects are neither fetched nor mapped.
  */
 @Service
+@Timed(value = "sample.aggregates.queries", histogram = true)
+@Counted(value = "sample.aggregates.queries.failures", recordFailuresOnly = true)
 public class SampleAggregateQueryService {
 
     private final SampleAggregateRepository sampleAggregateRepository;
+    private final SampleAggregateBusinessIdFilter businessIdFilter;
+    private final SampleAggregateCounters sampleAggregateCounters;
 
-    public SampleAggregateQueryService(SampleAggregateRepository sampleAggregateRepository) {
+    public SampleAggregateQueryService(
+            SampleAggregateRepository sampleAggregateRepository,
+            SampleAggregateBusinessIdFilter businessIdFilter,
+            SampleAggregateCounters sampleAggregateCounters) {
         this.sampleAggregateRepository = sampleAggregateRepository;
+        this.businessIdFilter = businessIdFilter;
+        this.sampleAggregateCounters = sampleAggregateCounters;
     }
 
     /**
      * Handles retrieving an aggregate by business ID.
+     * Found aggregates are cached; command services evict the entry on write.
+     * IDs the business ID filter rules out are answered without a database call.
      * 
      * @param query the query containing the business ID
-     * @return Optional containing the aggregate if found
+     * @return Optional containing the aggregate projection if found
      */
-    public Optional<SampleAggregateRoot> handle(GetSampleAggregateByBusinessIdQuery query) {
-        return sampleAggregateRepository.findByBusinessId(query.businessId());
+    @Cacheable(cacheNames = SampleAggregateCacheNames.AGGREGATES_BY_BUSINESS_ID, key = "#query.businessId()", unless = "#result == null")
+    public Optional<SampleAggregateSummary> handle(GetSampleAggregateByBusinessIdQuery query) {
+        if (!businessIdFilter.mightExist(query.businessId())) {
+            return Optional.empty();
+        }
+        return sampleAggregateRepository.findSummaryByBusinessId(query.businessId());
     }
 
     /**
      * Retrieves all active aggregates.
      * 
-     * @return List of active aggregates
+     * @return List of active aggregate projections
      */
-    public List<SampleAggregateRoot> getAllActiveAggregates() {
-        return sampleAggregateRepository.findActiveAggregates();
+    public List<SampleAggregateSummary> getAllActiveAggregates() {
+        return sampleAggregateRepository.findActiveSummaries();
+    }
+
+    /**
+     * Streams all active aggregates from a database cursor.
+     * The caller is responsible for closing the returned stream.
+     * 
+     * @return Stream of active aggregate projections
+     */
+    public Stream<SampleAggregateSummary> streamAllActiveAggregates() {
+        return sampleAggregateRepository.streamActiveSummaries();
     }
 
     /**
      * Retrieves aggregates with pagination.
      * 
      * @param pageable pagination information
-     * @return Page of aggregates
+     * @return Page of aggregate projections
      */
-    public Page<SampleAggregateRoot> getAllAggregates(Pageable pageable) {
-        return sampleAggregateRepository.findAll(pageable);
+    public Page<SampleAggregateSummary> getAllAggregates(Pageable pageable) {
+        return sampleAggregateRepository.findAllSummaries(pageable);
+    }
+
+    /**
+     * Retrieves aggregates with keyset pagination.
+     * One extra aggregate is fetched to tell whether another page follows,
+     * so no count is needed.
+     * 
+     * @param query the query containing the cursor position and page size
+     * @return Slice of aggregate projections following the cursor
+     */
+    public Slice<SampleAggregateSummary> handle(GetSampleAggregatesAfterCursorQuery query) {
+        List<SampleAggregateSummary> aggregates =
+            sampleAggregateRepository.findAfter(query.afterCreatedAt(), query.afterId(), query.size() + 1);
+
+        boolean hasNext = aggregates.size() > query.size();
+        List<SampleAggregateSummary> content = hasNext ? aggregates.subList(0, query.size()) : aggregates;
+
+        return new SliceImpl<>(content, PageRequest.ofSize(query.size()), hasNext);
     }
 
     /**
@@ -62,44 +120,54 @@ public class SampleAggregateQueryService {
      * 
      * @param status the status to filter by
      * @param pageable pagination information
-     * @return Page of aggregates with the specified status
+     * @return Page of aggregate projections with the specified status
      */
-    public Page<SampleAggregateRoot> getAggregatesByStatus(String status, Pageable pageable) {
-        // This would require a custom repository method
-        // For now, we'll use the simple findByStatus and convert to Page
-        List<SampleAggregateRoot> aggregates = sampleAggregateRepository.findByStatus(status);
-        
-        // In a real implementation, you'd want to handle pagination properly
-        // This is just for demonstration
-        return Page.empty(pageable);
+    public Page<SampleAggregateSummary> getAggregatesByStatus(String status, Pageable pageable) {
+        return sampleAggregateRepository.findSummariesByStatus(status, pageable);
     }
 
     /**
      * Checks if an aggregate exists by business ID.
+     * Only positive results are cached, as aggregates are never removed. A cached
+     * negative would hide an aggregate created on another replica until the
+     * entry expires.
+     * IDs the business ID filter rules out are answered without a database call.
      * 
      * @param businessId the business ID to check
      * @return true if aggregate exists
      */
+    @Cacheable(cacheNames = SampleAggregateCacheNames.EXISTENCE_BY_BUSINESS_ID, key = "#businessId", unless = "!#result")
     public boolean existsByBusinessId(String businessId) {
+        if (!businessIdFilter.mightExist(businessId)) {
+            return false;
+        }
         return sampleAggregateRepository.existsByBusinessId(businessId);
     }
 
     /**
      * Counts total number of aggregates.
+     * Served from the maintained counters; the collection is only counted
+     * while the counters are disabled or not built yet.
      * 
      * @return total count
      */
     public long getTotalCount() {
-        return sampleAggregateRepository.count();
+        return sampleAggregateCounters.read()
+            .map(SampleAggregateCounts::total)
+            .orElseGet(sampleAggregateRepository::count);
     }
 
     /**
      * Counts aggregates by status.
+     * Served from the maintained counters; the collection is only counted
+     * while the counters are disabled or not built yet.
      * 
      * @param status the status to count
      * @return count of aggregates with the specified status
      */
     public long countByStatus(String status) {
-        return sampleAggregateRepository.countByStatus(status);
+        return sampleAggregateCounters.read()
+            .map(counts -> counts.countOf(status))
+            .orElseGet(() -> sampleAggregateRepository.countByStatus(status));
     }
 }
@@ -0,0 +1,86 @@
+package com.levelupjourney.microservicecommunity.bounded.application.internal.queryservices;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregateByBusinessIdQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.views.SampleAggregateView;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.filters.SampleAggregateBusinessIdFilter;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories.SampleAggregateRepository;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.views.SampleAggregateViews;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Query service for Sample Aggregate views.
+ * Implements the read side of CQRS pattern on the separate read model.
+ *
+ * Views are served from the sample_aggregate_views collection while the read
+ * model lags the write model by at most sample-aggregates.read-model.max-lag.
+ * Beyond that, or while the read model is disabled, views are built from the
+ * aggregates on the primary instead, so responses never exceed the bound.
+ * Reading views from secondaries adds their replication lag, itself bounded by
+ * sample-aggregates.read-model.max-staleness.
+ */
+@Service
+@Timed(value = "sample.aggregates.views", histogram = true)
+@Counted(value = "sample.aggregates.views.failures", recordFailuresOnly = true)
+public class SampleAggregateViewQueryService {
+
+    private final SampleAggregateViews sampleAggregateViews;
+    private final SampleAggregateRepository sampleAggregateRepository;
+    private final SampleAggregateBusinessIdFilter businessIdFilter;
+    private final boolean enabled;
+    private final Duration maxLag;
+
+    public SampleAggregateViewQueryService(
+            SampleAggregateViews sampleAggregateViews,
+            SampleAggregateRepository sampleAggregateRepository,
+            SampleAggregateBusinessIdFilter businessIdFilter,
+            @Value("${sample-aggregates.read-model.enabled:true}") boolean enabled,
+            @Value("${sample-aggregates.read-model.max-lag:PT5S}") Duration maxLag) {
+        this.sampleAggregateViews = sampleAggregateViews;
+        this.sampleAggregateRepository = sampleAggregateRepository;
+        this.businessIdFilter = businessIdFilter;
+        this.enabled = enabled;
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * Handles retrieving the view of an aggregate by business ID.
+     * 
+     * @param query the query containing the business ID
+     * @return Optional containing the view if found
+     */
+    public Optional<SampleAggregateView> handle(GetSampleAggregateByBusinessIdQuery query) {
+        if (!businessIdFilter.mightExist(query.businessId())) {
+            return Optional.empty();
+        }
+        if (!isReadModelFresh()) {
+            return sampleAggregateRepository.findByBusinessId(query.businessId()).map(SampleAggregateView::from);
+        }
+        return sampleAggregateViews.findByBusinessId(query.businessId());
+    }
+
+    /**
+     * Retrieves views by status with pagination.
+     * 
+     * @param status the status to filter by
+     * @param pageable pagination information
+     * @return Page of views with the specified status
+     */
+    public Page<SampleAggregateView> getViewsByStatus(String status, Pageable pageable) {
+        if (!isReadModelFresh()) {
+            return sampleAggregateRepository.findPageByStatus(status, pageable).map(SampleAggregateView::from);
+        }
+        return sampleAggregateViews.findByStatus(status, pageable);
+    }
+
+    private boolean isReadModelFresh() {
+        return enabled && sampleAggregateViews.lag().compareTo(maxLag) <= 0;
+    }
+}
@@ -1,14 +1,22 @@
 package com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates;
 
 import com.levelupjourney.microservicecommunity.bounded.domain.model.entities.SampleEntity;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleAggregateCreatedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleAggregateDeactivatedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleAggregateUpdatedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleEntityAddedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.SampleAggregateStatus;
 import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.SampleValueObject;
 import com.levelupjourney.microservicecommunity.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import lombok.Getter;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Sample Aggregate Root for demonstrating MongoDB DDD structure.
@@ -22,8 +30,22 @@ import java.util.List;
  */
 @Getter
 @Document(collection = "sample_aggregates")
+@CompoundIndexes({
+    // Supports keyset pagination ordered by creation time
+    @CompoundIndex(name = "created_at_id_idx", def = "{ 'created_at' : 1, '_id' : 1 }"),
+    // Supports status filtering, status counts and status listings sorted by creation time
+    @CompoundIndex(name = "status_created_at_idx", def = "{ 'status' : 1, 'created_at' : 1 }"),
+    // Lets the outbox relay find aggregates with undispatched events; only those are indexed
+    @CompoundIndex(name = "pending_events_idx", def = "{ 'pending_events.event_id' : 1 }",
+        partialFilter = "{ 'pending_events.event_id' : { $exists : true } }")
+})
 public class SampleAggregateRoot extends AuditableAbstractAggregateRoot<SampleAggregateRoot> {
 
+    /**
+     * Maximum number of entities embedded in one aggregate.
+     */
+    public static final int MAX_SAMPLE_ENTITIES = 10;
+
     @Indexed(unique = true)
     @Field("business_id")
     private String businessId;
@@ -35,7 +57,7 @@ public class SampleAggregateRoot extends AuditableAbstractAggregateRoot<SampleAg
     private String description;
 
     @Field("status")
-    private String status;
+    private SampleAggregateStatus status;
 
     // Embedded entities within the aggregate
     @Field("sample_entities")
@@ -59,11 +81,11 @@ public class SampleAggregateRoot extends AuditableAbstractAggregateRoot<SampleAg
         this.businessId = businessId;
         this.name = name;
         this.description = description;
-        this.status = "ACTIVE";
+        this.status = SampleAggregateStatus.ACTIVE;
         this.sampleEntities = new java.util.ArrayList<>();
         
         // Register domain event
-        // addDomainEvent(new SampleAggregateCreatedEvent(this.businessId));
+        addDomainEvent(new SampleAggregateCreatedEvent(this.businessId, this.name, this.description));
     }
 
     /**
@@ -83,7 +105,7 @@ public class SampleAggregateRoot extends AuditableAbstractAggregateRoot<SampleAg
         this.description = newDescription;
         
         // Register domain event
-        // addDomainEvent(new SampleAggregateUpdatedEvent(this.businessId));
+        addDomainEvent(new SampleAggregateUpdatedEvent(this.businessId, this.name, this.description));
     }
 
     /**
@@ -102,28 +124,43 @@ public class SampleAggregateRoot extends AuditableAbstractAggregateRoot<SampleAg
             this.sampleEntities = new java.util.ArrayList<>();
         }
         
-        if (this.sampleEntities.size() >= 10) {
-            throw new IllegalStateException("Cannot add more than 10 entities");
+        if (this.sampleEntities.size() >= MAX_SAMPLE_ENTITIES) {
+            throw new IllegalStateException("Cannot add more than " + MAX_SAMPLE_ENTITIES + " entities");
         }
         
         this.sampleEntities.add(entity);
         
         // Register domain event
-        // addDomainEvent(new SampleEntityAddedEvent(this.businessId, entity.getId()));
+        addDomainEvent(new SampleEntityAddedEvent(this.businessId, entity.getEntityId()));
+    }
+
+    /**
+     * Finds an embedded entity by its identifier.
+     * 
+     * @param entityId the entity identifier
+     * @return Optional containing the entity if the aggregate holds it
+     */
+    public Optional<SampleEntity> findSampleEntity(String entityId) {
+        if (this.sampleEntities == null) {
+            return Optional.empty();
+        }
+        return this.sampleEntities.stream()
+            .filter(entity -> entity.getEntityId().equals(entityId))
+            .findFirst();
     }
 
     /**
      * Business method to deactivate the aggregate.
      */
     public void deactivate() {
-        if ("INACTIVE".equals(this.status)) {
+        if (this.status == SampleAggregateStatus.INACTIVE) {
             throw new IllegalStateException("Aggregate is already inactive");
         }
         
-        this.status = "INACTIVE";
+        this.status = SampleAggregateStatus.INACTIVE;
         
         // Register domain event
-        // addDomainEvent(new SampleAggregateDeactivatedEvent(this.businessId));
+        addDomainEvent(new SampleAggregateDeactivatedEvent(this.businessId));
     }
 
     /**
@@ -132,6 +169,6 @@ public class SampleAggregateRoot extends AuditableAbstractAggregateRoot<SampleAg
      * @return true if active, false otherwise
      */
     public boolean isActive() {
-        return "ACTIVE".equals(this.status);
+        return this.status == SampleAggregateStatus.ACTIVE;
     }
 }
@@ -0,0 +1,38 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.commands;
+
+/**
+ * Command for adding an entity to an existing aggregate.
+ * Carries the same invariants as the SampleEntity constructor; the entity cap
+ * and the uniqueness of entity IDs are enforced by the update filter.
+ * With an expected version, the entity is only added to that version of the aggregate.
+ */
+public record AddSampleEntityCommand(
+    String businessId,
+    String entityId,
+    String name,
+    String type,
+    Double value,
+    Long expectedVersion
+) {
+
+    /**
+     * Constructor with validation.
+     */
+    public AddSampleEntityCommand {
+        if (businessId == null || businessId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Business ID cannot be empty");
+        }
+        if (entityId == null || entityId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Entity ID cannot be empty");
+        }
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be empty");
+        }
+        if (value != null && value < 0) {
+            throw new IllegalArgumentException("Value cannot be negative");
+        }
+        if (expectedVersion != null && expectedVersion < 0) {
+            throw new IllegalArgumentException("Expected version cannot be negative");
+        }
+    }
+}
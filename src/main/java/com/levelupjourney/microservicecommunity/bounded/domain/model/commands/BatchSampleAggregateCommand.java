@@ -0,0 +1,34 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.commands;
+
+import java.util.List;
+
+/**
+ * Command for applying a batch of aggregate commands in one go.
+ * Each item is one of the SampleAggregateBatchItemCommand types; items are
+ * independent of each other and are not applied in any particular order.
+ */
+public record BatchSampleAggregateCommand(
+    List<SampleAggregateBatchItemCommand> commands
+) {
+
+    /**
+     * Maximum number of commands accepted in a single batch.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Constructor with validation.
+     */
+    public BatchSampleAggregateCommand {
+        if (commands == null || commands.isEmpty()) {
+            throw new IllegalArgumentException("Batch cannot be empty");
+        }
+        if (commands.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + MAX_BATCH_SIZE + " commands");
+        }
+        if (commands.contains(null)) {
+            throw new IllegalArgumentException("Batch commands cannot be null");
+        }
+        commands = List.copyOf(commands);
+    }
+}
@@ -13,7 +13,7 @@ public record CreateSampleAggregateCommand(
     String businessId,
     String name,
     String description
-) {
+) implements SampleAggregateBatchItemCommand {
     
     /**
      * Constructor with validation.
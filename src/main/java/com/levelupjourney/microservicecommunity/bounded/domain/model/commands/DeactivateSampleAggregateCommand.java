@@ -0,0 +1,30 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.commands;
+
+/**
+ * Command for deactivating an existing aggregate.
+ * With an expected version, the deactivation only applies to that version of the aggregate.
+ */
+public record DeactivateSampleAggregateCommand(
+    String businessId,
+    Long expectedVersion
+) implements SampleAggregateBatchItemCommand {
+
+    /**
+     * Creates an unconditional deactivate command.
+     */
+    public DeactivateSampleAggregateCommand(String businessId) {
+        this(businessId, null);
+    }
+
+    /**
+     * Constructor with validation.
+     */
+    public DeactivateSampleAggregateCommand {
+        if (businessId == null || businessId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Business ID cannot be empty");
+        }
+        if (expectedVersion != null && expectedVersion < 0) {
+            throw new IllegalArgumentException("Expected version cannot be negative");
+        }
+    }
+}
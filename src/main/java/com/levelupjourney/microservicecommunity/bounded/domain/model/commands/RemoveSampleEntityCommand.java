@@ -0,0 +1,27 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.commands;
+
+/**
+ * Command for removing an entity from an existing aggregate.
+ * With an expected version, the entity is only removed from that version of the aggregate.
+ */
+public record RemoveSampleEntityCommand(
+    String businessId,
+    String entityId,
+    Long expectedVersion
+) {
+
+    /**
+     * Constructor with validation.
+     */
+    public RemoveSampleEntityCommand {
+        if (businessId == null || businessId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Business ID cannot be empty");
+        }
+        if (entityId == null || entityId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Entity ID cannot be empty");
+        }
+        if (expectedVersion != null && expectedVersion < 0) {
+            throw new IllegalArgumentException("Expected version cannot be negative");
+        }
+    }
+}
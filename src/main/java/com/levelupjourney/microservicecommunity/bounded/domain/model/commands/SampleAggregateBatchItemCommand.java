@@ -0,0 +1,17 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.commands;
+
+/**
+ * Command that can be applied as an item of a BatchSampleAggregateCommand.
+ * The permitted commands are the only ones a batch accepts, so handlers can
+ * switch over them exhaustively.
+ */
+public sealed interface SampleAggregateBatchItemCommand
+    permits CreateSampleAggregateCommand, UpdateSampleAggregateCommand, DeactivateSampleAggregateCommand {
+
+    /**
+     * Returns the business ID of the aggregate the command applies to.
+     *
+     * @return the business ID
+     */
+    String businessId();
+}
@@ -0,0 +1,28 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.commands;
+
+/**
+ * Command for activating or deactivating an entity of an existing aggregate.
+ * With an expected version, the entity is only changed in that version of the aggregate.
+ */
+public record SetSampleEntityActiveCommand(
+    String businessId,
+    String entityId,
+    boolean active,
+    Long expectedVersion
+) {
+
+    /**
+     * Constructor with validation.
+     */
+    public SetSampleEntityActiveCommand {
+        if (businessId == null || businessId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Business ID cannot be empty");
+        }
+        if (entityId == null || entityId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Entity ID cannot be empty");
+        }
+        if (expectedVersion != null && expectedVersion < 0) {
+            throw new IllegalArgumentException("Expected version cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.commands;
+
+/**
+ * Command for updating the details of an existing aggregate.
+ * Carries the same invariants as SampleAggregateRoot.updateDetails so the
+ * update can be applied in place without loading the aggregate.
+ * With an expected version, the update only applies to that version of the aggregate.
+ */
+public record UpdateSampleAggregateCommand(
+    String businessId,
+    String name,
+    String description,
+    Long expectedVersion
+) implements SampleAggregateBatchItemCommand {
+
+    /**
+     * Creates an unconditional update command.
+     */
+    public UpdateSampleAggregateCommand(String businessId, String name, String description) {
+        this(businessId, name, description, null);
+    }
+
+    /**
+     * Constructor with validation.
+     */
+    public UpdateSampleAggregateCommand {
+        if (businessId == null || businessId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Business ID cannot be empty");
+        }
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be empty");
+        }
+        if (expectedVersion != null && expectedVersion < 0) {
+            throw new IllegalArgumentException("Expected version cannot be negative");
+        }
+    }
+}
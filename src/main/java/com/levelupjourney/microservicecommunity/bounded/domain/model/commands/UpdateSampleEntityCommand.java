@@ -0,0 +1,36 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.commands;
+
+/**
+ * Command for updating the details of an entity of an existing aggregate.
+ * Carries the same invariants as SampleEntity.updateDetails.
+ * With an expected version, the entity is only updated in that version of the aggregate.
+ */
+public record UpdateSampleEntityCommand(
+    String businessId,
+    String entityId,
+    String name,
+    Double value,
+    Long expectedVersion
+) {
+
+    /**
+     * Constructor with validation.
+     */
+    public UpdateSampleEntityCommand {
+        if (businessId == null || businessId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Business ID cannot be empty");
+        }
+        if (entityId == null || entityId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Entity ID cannot be empty");
+        }
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be empty");
+        }
+        if (value != null && value < 0) {
+            throw new IllegalArgumentException("Value cannot be negative");
+        }
+        if (expectedVersion != null && expectedVersion < 0) {
+            throw new IllegalArgumentException("Expected version cannot be negative");
+        }
+    }
+}
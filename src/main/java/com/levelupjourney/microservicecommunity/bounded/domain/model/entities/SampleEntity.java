@@ -65,6 +65,31 @@ public class SampleEntity {
         this.isActive = true;
     }
 
+    /**
+     * Recreates an entity from stored attributes.
+     * Stored values were validated when the entity was created, so they are
+     * taken as they are.
+     * 
+     * @param entityId stored entity identifier
+     * @param name stored name
+     * @param type stored type
+     * @param value stored value
+     * @param createdAt stored creation time
+     * @param isActive stored active flag
+     * @return the entity
+     */
+    public static SampleEntity rehydrate(
+            String entityId, String name, String type, Double value, LocalDateTime createdAt, boolean isActive) {
+        SampleEntity entity = new SampleEntity();
+        entity.entityId = entityId;
+        entity.name = name;
+        entity.type = type;
+        entity.value = value;
+        entity.createdAt = createdAt;
+        entity.isActive = isActive;
+        return entity;
+    }
+
     /**
      * Business method to update entity details.
      * 
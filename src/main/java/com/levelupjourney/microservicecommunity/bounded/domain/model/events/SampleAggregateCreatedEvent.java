@@ -0,0 +1,16 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.events;
+
+/**
+ * Domain event raised when a sample aggregate is created.
+ * Delivered at least once through the aggregate's outbox; consumers must tolerate duplicates.
+ * 
+ * @param businessId the business identifier of the aggregate
+ * @param name the name of the aggregate
+ * @param description the description of the aggregate
+ */
+public record SampleAggregateCreatedEvent(
+    String businessId,
+    String name,
+    String description
+) {
+}
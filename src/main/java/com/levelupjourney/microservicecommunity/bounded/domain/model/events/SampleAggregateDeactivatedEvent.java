@@ -0,0 +1,12 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.events;
+
+/**
+ * Domain event raised when a sample aggregate is deactivated.
+ * Delivered at least once through the aggregate's outbox; consumers must tolerate duplicates.
+ * 
+ * @param businessId the business identifier of the aggregate
+ */
+public record SampleAggregateDeactivatedEvent(
+    String businessId
+) {
+}
@@ -0,0 +1,16 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.events;
+
+/**
+ * Domain event raised when the details of a sample aggregate are updated.
+ * Delivered at least once through the aggregate's outbox; consumers must tolerate duplicates.
+ * 
+ * @param businessId the business identifier of the aggregate
+ * @param name the new name of the aggregate
+ * @param description the new description of the aggregate
+ */
+public record SampleAggregateUpdatedEvent(
+    String businessId,
+    String name,
+    String description
+) {
+}
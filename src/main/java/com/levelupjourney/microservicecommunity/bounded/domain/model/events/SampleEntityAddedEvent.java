@@ -0,0 +1,14 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.events;
+
+/**
+ * Domain event raised when an entity is added to a sample aggregate.
+ * Delivered at least once through the aggregate's outbox; consumers must tolerate duplicates.
+ * 
+ * @param businessId the business identifier of the aggregate
+ * @param entityId the identifier of the added entity
+ */
+public record SampleEntityAddedEvent(
+    String businessId,
+    String entityId
+) {
+}
@@ -0,0 +1,14 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.events;
+
+/**
+ * Domain event raised when an entity of a sample aggregate is updated, activated or deactivated.
+ * Delivered at least once through the aggregate's outbox; consumers must tolerate duplicates.
+ * 
+ * @param businessId the business identifier of the aggregate
+ * @param entityId the identifier of the updated entity
+ */
+public record SampleEntityUpdatedEvent(
+    String businessId,
+    String entityId
+) {
+}
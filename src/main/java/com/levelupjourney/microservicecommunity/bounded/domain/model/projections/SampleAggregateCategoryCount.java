@@ -0,0 +1,16 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.projections;
+
+/**
+ * Number of aggregates whose value object has a given category and priority.
+ * Both are null for aggregates without a value object.
+ * 
+ * @param category the value object category
+ * @param priority the value object priority
+ * @param count the number of aggregates
+ */
+public record SampleAggregateCategoryCount(
+    String category,
+    Integer priority,
+    long count
+) {
+}
@@ -0,0 +1,25 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.projections;
+
+import java.util.Map;
+
+/**
+ * Number of aggregates, in total and per status.
+ * 
+ * @param total the total number of aggregates
+ * @param byStatus the number of aggregates per status
+ */
+public record SampleAggregateCounts(
+    long total,
+    Map<String, Long> byStatus
+) {
+
+    /**
+     * Returns the number of aggregates with a status.
+     * 
+     * @param status the status
+     * @return the number of aggregates, zero for statuses without aggregates
+     */
+    public long countOf(String status) {
+        return byStatus.getOrDefault(status, 0L);
+    }
+}
@@ -0,0 +1,13 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.projections;
+
+/**
+ * Number of aggregates with a given status.
+ * 
+ * @param status the status
+ * @param count the number of aggregates
+ */
+public record SampleAggregateStatusCount(
+    String status,
+    long count
+) {
+}
@@ -0,0 +1,31 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.projections;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.SampleAggregateStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a SampleAggregateRoot.
+ * Holds the top-level fields only; embedded entities and value objects are
+ * never loaded, so queries returning it fetch and map fewer fields.
+ * 
+ * @param id the document ID
+ * @param businessId the business identifier
+ * @param name the name of the aggregate
+ * @param description the description of the aggregate
+ * @param status the status of the aggregate
+ * @param createdAt the creation time
+ * @param updatedAt the last modification time
+ * @param version the version of the aggregate, null if written before versioning
+ */
+public record SampleAggregateSummary(
+    String id,
+    String businessId,
+    String name,
+    String description,
+    SampleAggregateStatus status,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Long version
+) {
+}
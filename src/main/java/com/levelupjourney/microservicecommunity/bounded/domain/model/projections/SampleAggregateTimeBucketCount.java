@@ -0,0 +1,15 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of aggregates created within a time bucket.
+ * 
+ * @param bucketStart the start of the bucket
+ * @param count the number of aggregates
+ */
+public record SampleAggregateTimeBucketCount(
+    LocalDateTime bucketStart,
+    long count
+) {
+}
@@ -0,0 +1,22 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.projections;
+
+/**
+ * Totals over the entities embedded in a set of aggregates.
+ * 
+ * @param entityCount the number of entities
+ * @param activeEntityCount the number of active entities
+ * @param valueSum the sum of all entity values
+ * @param businessValueSum the sum of SampleEntity.calculateBusinessValue over all entities
+ */
+public record SampleEntityValueTotals(
+    long entityCount,
+    long activeEntityCount,
+    double valueSum,
+    double businessValueSum
+) {
+
+    /**
+     * Totals of an empty set of entities.
+     */
+    public static final SampleEntityValueTotals EMPTY = new SampleEntityValueTotals(0, 0, 0.0, 0.0);
+}
@@ -0,0 +1,25 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.queries;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query for aggregate statistics over a creation time range.
+ * The range includes its start and excludes its end.
+ */
+public record GetSampleAggregateAnalyticsQuery(
+    LocalDateTime from,
+    LocalDateTime to
+) {
+
+    /**
+     * Constructor with validation.
+     */
+    public GetSampleAggregateAnalyticsQuery {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Time range must have a start and an end");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Time range start must be before its end");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.queries;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.TimeBucketGranularity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query for the number of aggregates created per time bucket.
+ * The range start is moved back to the start of its bucket, so every bucket
+ * but the last one is complete; the range end is excluded.
+ */
+public record GetSampleAggregateTimeBucketsQuery(
+    LocalDateTime from,
+    LocalDateTime to,
+    TimeBucketGranularity granularity
+) {
+
+    /**
+     * Maximum number of buckets in a single result.
+     */
+    public static final int MAX_BUCKETS = 1000;
+
+    /**
+     * Constructor with validation.
+     */
+    public GetSampleAggregateTimeBucketsQuery {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Time range must have a start and an end");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Time range start must be before its end");
+        }
+        if (granularity == null) {
+            throw new IllegalArgumentException("Granularity cannot be null");
+        }
+        if (granularity.bucketsBetween(from, to) > MAX_BUCKETS) {
+            throw new IllegalArgumentException("Time range cannot span more than " + MAX_BUCKETS + " buckets");
+        }
+    }
+}
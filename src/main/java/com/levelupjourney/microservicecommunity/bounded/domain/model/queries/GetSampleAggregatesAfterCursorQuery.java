@@ -0,0 +1,41 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.queries;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query for retrieving aggregates with keyset (cursor) pagination.
+ * Aggregates are ordered by creation time and ID; the page starts right after
+ * the aggregate identified by the cursor, or at the beginning when no cursor is given.
+ */
+public record GetSampleAggregatesAfterCursorQuery(
+    LocalDateTime afterCreatedAt,
+    String afterId,
+    int size
+) {
+
+    /**
+     * Maximum number of aggregates returned in a single page.
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * Constructor with validation.
+     */
+    public GetSampleAggregatesAfterCursorQuery {
+        if ((afterCreatedAt == null) != (afterId == null)) {
+            throw new IllegalArgumentException("Cursor must contain both creation time and ID");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Checks whether this query starts from the beginning of the collection.
+     * 
+     * @return true if no cursor was given
+     */
+    public boolean isFirstPage() {
+        return afterId == null;
+    }
+}
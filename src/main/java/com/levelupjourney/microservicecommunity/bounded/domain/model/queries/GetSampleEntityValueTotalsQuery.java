@@ -0,0 +1,29 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.queries;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query for the totals of embedded entity values of aggregates created in a time range.
+ * The business value applies SampleEntity.calculateBusinessValue with the given multiplier.
+ */
+public record GetSampleEntityValueTotalsQuery(
+    LocalDateTime from,
+    LocalDateTime to,
+    double multiplier
+) {
+
+    /**
+     * Constructor with validation.
+     */
+    public GetSampleEntityValueTotalsQuery {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Time range must have a start and an end");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Time range start must be before its end");
+        }
+        if (!Double.isFinite(multiplier)) {
+            throw new IllegalArgumentException("Multiplier must be a finite number");
+        }
+    }
+}
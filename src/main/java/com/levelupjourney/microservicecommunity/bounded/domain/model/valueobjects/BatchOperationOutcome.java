@@ -0,0 +1,13 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects;
+
+/**
+ * Outcome of a single item of a batch command.
+ */
+public enum BatchOperationOutcome {
+    CREATED,
+    UPDATED,
+    DEACTIVATED,
+    CONFLICT,
+    NOT_FOUND,
+    INVALID
+}
@@ -0,0 +1,19 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects;
+
+/**
+ * Result of a single item of a batch command.
+ * 
+ * @param businessId the business identifier the item referred to
+ * @param outcome what happened to the item
+ * @param message human-readable detail for failed items, null otherwise
+ */
+public record BatchOperationResult(
+    String businessId,
+    BatchOperationOutcome outcome,
+    String message
+) {
+
+    public static BatchOperationResult of(String businessId, BatchOperationOutcome outcome) {
+        return new BatchOperationResult(businessId, outcome, null);
+    }
+}
@@ -0,0 +1,11 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects;
+
+/**
+ * Lifecycle status of a sample aggregate.
+ * Stored by name, so documents keep the ACTIVE/INACTIVE strings that indexes,
+ * the counters document and raw queries match on.
+ */
+public enum SampleAggregateStatus {
+    ACTIVE,
+    INACTIVE
+}
@@ -7,7 +7,8 @@ import java.util.Objects;
 
 /**
  * Sample Value Object demonstrating MongoDB DDD structure.
- * Value objects are immutable and defined by their attributes.
+ * Value objects are immutable and defined by their attributes; the fields are
+ * only assigned by the constructor and by rehydrate, and have no setters.
  * 
  * This demonstrates:
  * - Immutable design
@@ -19,24 +20,19 @@ import java.util.Objects;
 public class SampleValueObject {
 
     @Field("code")
-    private final String code;
+    private String code;
 
     @Field("display_name")
-    private final String displayName;
+    private String displayName;
 
     @Field("category")
-    private final String category;
+    private String category;
 
     @Field("priority")
-    private final Integer priority;
+    private Integer priority;
 
     // Private default constructor for frameworks
-    protected SampleValueObject() {
-        this.code = null;
-        this.displayName = null;
-        this.category = null;
-        this.priority = null;
-    }
+    protected SampleValueObject() {}
 
     /**
      * Constructor for creating a value object.
@@ -65,6 +61,26 @@ public class SampleValueObject {
         this.priority = priority;
     }
 
+    /**
+     * Recreates a value object from stored attributes.
+     * Stored values were validated and normalized when the value object was
+     * created, so they are taken as they are.
+     * 
+     * @param code stored code
+     * @param displayName stored display name
+     * @param category stored category
+     * @param priority stored priority
+     * @return the value object
+     */
+    public static SampleValueObject rehydrate(String code, String displayName, String category, Integer priority) {
+        SampleValueObject valueObject = new SampleValueObject();
+        valueObject.code = code;
+        valueObject.displayName = displayName;
+        valueObject.category = category;
+        valueObject.priority = priority;
+        return valueObject;
+    }
+
     /**
      * Business method to check if this value object has high priority.
      * 
@@ -0,0 +1,49 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Width of the time buckets aggregates are counted in.
+ */
+public enum TimeBucketGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    TimeBucketGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Returns the start of the bucket containing the given time.
+     * 
+     * @param time the time to truncate
+     * @return the bucket start
+     */
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * Returns the start of the bucket following the one starting at the given time.
+     * 
+     * @param bucketStart the start of a bucket
+     * @return the start of the next bucket
+     */
+    public LocalDateTime nextBucketStart(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    /**
+     * Counts the buckets needed to cover a time range.
+     * 
+     * @param from start of the range, inclusive
+     * @param to end of the range, exclusive
+     * @return the number of buckets
+     */
+    public long bucketsBetween(LocalDateTime from, LocalDateTime to) {
+        return unit.between(bucketStart(from), bucketStart(to.minusNanos(1))) + 1;
+    }
+}
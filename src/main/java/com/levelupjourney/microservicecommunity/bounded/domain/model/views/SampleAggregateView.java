@@ -0,0 +1,134 @@
+package com.levelupjourney.microservicecommunity.bounded.domain.model.views;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.entities.SampleEntity;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.SampleValueObject;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceCreator;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read model of a SampleAggregateRoot, kept in its own collection.
+ * The document is flat and shaped like the API resource: the value object is
+ * inlined and entity statistics are computed when the view is projected, so
+ * reads neither unwind embedded entities nor compute anything.
+ *
+ * Views are keyed by business ID and projected asynchronously from the
+ * aggregate's domain events, so they may lag behind the write model.
+ */
+@Getter
+@Document(collection = "sample_aggregate_views")
+@CompoundIndexes({
+    // Supports status listings, newest first
+    @CompoundIndex(name = "status_created_at_idx", def = "{ 'status' : 1, 'created_at' : -1 }")
+})
+public class SampleAggregateView {
+
+    public static final double BUSINESS_VALUE_MULTIPLIER = 1.0;
+
+    @Id
+    private String businessId;
+
+    @Field("aggregate_id")
+    private String aggregateId;
+
+    @Field("name")
+    private String name;
+
+    @Field("description")
+    private String description;
+
+    @Field("status")
+    private String status;
+
+    @Field("code")
+    private String code;
+
+    @Field("display_name")
+    private String displayName;
+
+    @Field("category")
+    private String category;
+
+    @Field("priority")
+    private Integer priority;
+
+    @Field("entity_count")
+    private int entityCount;
+
+    @Field("active_entity_count")
+    private int activeEntityCount;
+
+    @Field("business_value")
+    private double businessValue;
+
+    @Field("created_at")
+    private LocalDateTime createdAt;
+
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+
+    @Field("projected_at")
+    private LocalDateTime projectedAt;
+
+    @PersistenceCreator
+    protected SampleAggregateView(
+            String businessId, String aggregateId, String name, String description, String status,
+            String code, String displayName, String category, Integer priority,
+            int entityCount, int activeEntityCount, double businessValue,
+            LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime projectedAt) {
+        this.businessId = businessId;
+        this.aggregateId = aggregateId;
+        this.name = name;
+        this.description = description;
+        this.status = status;
+        this.code = code;
+        this.displayName = displayName;
+        this.category = category;
+        this.priority = priority;
+        this.entityCount = entityCount;
+        this.activeEntityCount = activeEntityCount;
+        this.businessValue = businessValue;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.projectedAt = projectedAt;
+    }
+
+    /**
+     * Projects the current state of an aggregate.
+     *
+     * @param aggregate the aggregate to project
+     * @return the view of the aggregate
+     */
+    public static SampleAggregateView from(SampleAggregateRoot aggregate) {
+        if (aggregate == null) {
+            throw new IllegalArgumentException("Aggregate cannot be null");
+        }
+        List<SampleEntity> entities = aggregate.getSampleEntities() == null ? List.of() : aggregate.getSampleEntities();
+        SampleValueObject valueObject = aggregate.getSampleValueObject();
+
+        return new SampleAggregateView(
+            aggregate.getBusinessId(),
+            aggregate.getId(),
+            aggregate.getName(),
+            aggregate.getDescription(),
+            aggregate.getStatus().name(),
+            valueObject == null ? null : valueObject.getCode(),
+            valueObject == null ? null : valueObject.getDisplayName(),
+            valueObject == null ? null : valueObject.getCategory(),
+            valueObject == null ? null : valueObject.getPriority(),
+            entities.size(),
+            (int) entities.stream().filter(SampleEntity::isActive).count(),
+            entities.stream().mapToDouble(entity -> entity.calculateBusinessValue(BUSINESS_VALUE_MULTIPLIER)).sum(),
+            aggregate.getCreatedAt(),
+            aggregate.getUpdatedAt(),
+            LocalDateTime.now());
+    }
+}
@@ -0,0 +1,292 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.changestreams;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.changestreams.ChangeStreamResumeTokenStore;
+import com.mongodb.MongoException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Listens to the change stream of the sample_aggregates collection and
+ * republishes every change as a SampleAggregateChangedEvent inside this node.
+ * This lets per-node caches stay coherent with writes made by other replicas.
+ * 
+ * Only changes to the aggregate itself are streamed: every aggregate update
+ * increments the version, so outbox claims and event removals are filtered out
+ * on the server. Events are projected down to the business ID and document key
+ * and no full document lookup is requested. Updates carry only the document
+ * key, so their business ID, which never changes, is resolved from the _id:
+ * from the mapping remembered since the insert or an earlier change, else by a
+ * lookup projected to the business ID.
+ * 
+ * The resume token is saved periodically and on shutdown, so a restarted node
+ * replays the events it missed. Replayed events only cause extra invalidations.
+ * Tokens are saved under the configured consumer ID, which has to stay the same
+ * when the node is recreated and differ between nodes.
+ * Change streams need a replica set; a single-node replica set is enough.
+ * 
+ * A failed stream is restarted from the last resume token, with exponential
+ * backoff. When the token can no longer be resumed from (its changes left the
+ * oplog, or resuming keeps failing), the stream is restarted from now and a
+ * resync event is published, since changes were missed. Restarts are counted
+ * and whether the stream is running is reported as a gauge.
+ */
+@Component
+public class SampleAggregateChangeStreamListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SampleAggregateChangeStreamListener.class);
+    private static final String COLLECTION = "sample_aggregates";
+    // ChangeStreamFatalError and ChangeStreamHistoryLost: the token cannot be resumed from
+    private static final Set<Integer> UNRESUMABLE_ERROR_CODES = Set.of(280, 286);
+    private static final List<Document> PIPELINE = List.of(
+        new Document("$match", new Document("$or", List.of(
+            new Document("operationType", new Document("$ne", "update")),
+            new Document("updateDescription.updatedFields.version", new Document("$exists", true))))),
+        new Document("$project", new Document("operationType", 1)
+            .append("documentKey", 1)
+            .append("fullDocument.business_id", 1)));
+
+    private final MongoTemplate mongoTemplate;
+    private final ChangeStreamResumeTokenStore resumeTokenStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String listenerName;
+    private final long resumeTokenSaveIntervalMillis;
+    private final Duration restartBackoff;
+    private final Duration maxRestartBackoff;
+    private final int maxResumeAttempts;
+    private final Cache<BsonValue, String> businessIdsById;
+    private final Meter.MeterProvider<Counter> restartsCounter;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private ExecutorService streamExecutor;
+    private ScheduledExecutorService restartScheduler;
+    private MessageListenerContainer container;
+    private volatile Subscription subscription;
+    private volatile BsonDocument lastResumeToken;
+    private volatile long lastSavedAt;
+
+    public SampleAggregateChangeStreamListener(
+            MongoTemplate mongoTemplate,
+            ChangeStreamResumeTokenStore resumeTokenStore,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${sample-aggregates.change-stream.enabled:false}") boolean enabled,
+            @Value("${sample-aggregates.change-stream.consumer-id:}") String consumerId,
+            @Value("${sample-aggregates.change-stream.resume-token-save-interval:PT1S}") Duration resumeTokenSaveInterval,
+            @Value("${sample-aggregates.change-stream.restart-backoff:PT1S}") Duration restartBackoff,
+            @Value("${sample-aggregates.change-stream.max-restart-backoff:PT1M}") Duration maxRestartBackoff,
+            @Value("${sample-aggregates.change-stream.max-resume-attempts:5}") int maxResumeAttempts,
+            @Value("${sample-aggregates.change-stream.business-id-cache-size:100000}") long businessIdCacheSize) {
+        if (maxResumeAttempts < 1) {
+            throw new IllegalArgumentException("Change stream max resume attempts must be at least 1");
+        }
+        if (enabled && consumerId.isBlank()) {
+            throw new IllegalArgumentException("Change stream consumer ID must be set when the change stream is enabled");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.resumeTokenStore = resumeTokenStore;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.listenerName = COLLECTION + ":" + consumerId;
+        this.resumeTokenSaveIntervalMillis = resumeTokenSaveInterval.toMillis();
+        this.restartBackoff = restartBackoff;
+        this.maxRestartBackoff = maxRestartBackoff;
+        this.maxResumeAttempts = maxResumeAttempts;
+        this.businessIdsById = Caffeine.newBuilder().maximumSize(businessIdCacheSize).build();
+        this.restartsCounter = Counter.builder("sample.aggregates.change.stream.restarts")
+            .description("Restarts of the sample aggregates change stream after a failure, by whether it resumed from its token")
+            .withRegistry(meterRegistry);
+        Gauge.builder("sample.aggregates.change.stream.active", this, listener -> listener.isActive() ? 1 : 0)
+            .description("Whether the sample aggregates change stream is running")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Starts listening once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || container != null) {
+            return;
+        }
+
+        streamExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "sample-aggregates-change-stream"));
+        restartScheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "sample-aggregates-change-stream-restart"));
+        container = new DefaultMessageListenerContainer(mongoTemplate, streamExecutor, this::onError);
+        container.start();
+
+        lastResumeToken = resumeTokenStore.load(listenerName).orElse(null);
+        subscribe();
+        LOGGER.info("Listening to change stream on {} as {}", COLLECTION, listenerName);
+    }
+
+    /**
+     * Stops listening, saves the last processed resume token and shuts down
+     * the threads of the listener.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (container == null) {
+            return;
+        }
+        MessageListenerContainer stopped = container;
+        container = null;
+        restartScheduler.shutdownNow();
+        stopped.stop();
+        streamExecutor.shutdownNow();
+        subscription = null;
+        if (lastResumeToken != null) {
+            resumeTokenStore.save(listenerName, lastResumeToken);
+        }
+    }
+
+    /**
+     * Checks whether the change stream is running.
+     * 
+     * @return true while the stream is open, false when stopped, disabled or waiting for a restart
+     */
+    public boolean isActive() {
+        Subscription current = subscription;
+        return current != null && current.isActive();
+    }
+
+    private void subscribe() {
+        ChangeStreamRequest.ChangeStreamRequestBuilder<Document> request = ChangeStreamRequest.builder(this::onMessage)
+            .collection(COLLECTION)
+            .filter(PIPELINE.toArray(Document[]::new));
+        if (lastResumeToken != null) {
+            request.resumeAfter(lastResumeToken);
+        }
+        subscription = container.register(request.build(), Document.class);
+    }
+
+    private synchronized void onError(Throwable error) {
+        Subscription failed = subscription;
+        if (container == null) {
+            return;
+        }
+        if (failed != null && failed.isActive()) {
+            // Handling one change failed, the stream itself goes on
+            LOGGER.warn("Handling a change on {} failed", COLLECTION, error);
+            return;
+        }
+
+        int failures = consecutiveFailures.incrementAndGet();
+        if (lastResumeToken != null && (isUnresumable(error) || failures > maxResumeAttempts)) {
+            lastResumeToken = null;
+        }
+        Duration delay = restartBackoff.multipliedBy(1L << Math.min(failures - 1, 20));
+        if (delay.compareTo(maxRestartBackoff) > 0) {
+            delay = maxRestartBackoff;
+        }
+        LOGGER.warn("Change stream on {} failed, restarting in {} {}", COLLECTION, delay,
+            lastResumeToken != null ? "from its resume token" : "from now", error);
+        restartScheduler.schedule(this::restart, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void restart() {
+        if (container == null) {
+            return;
+        }
+        Subscription failed = subscription;
+        if (failed != null) {
+            container.remove(failed);
+        }
+
+        boolean resumed = lastResumeToken != null;
+        subscribe();
+        restartsCounter.withTags("resumed", Boolean.toString(resumed)).increment();
+        if (!resumed) {
+            // Changes made while the stream was down are lost, local state is rebuilt instead
+            eventPublisher.publishEvent(SampleAggregateChangedEvent.resync());
+        }
+    }
+
+    private void onMessage(Message<ChangeStreamDocument<Document>, Document> message) {
+        ChangeStreamDocument<Document> change = message.getRaw();
+        if (change == null) {
+            return;
+        }
+        consecutiveFailures.set(0);
+
+        eventPublisher.publishEvent(new SampleAggregateChangedEvent(businessIdOf(change), change.getOperationTypeString()));
+
+        lastResumeToken = change.getResumeToken();
+        long now = System.currentTimeMillis();
+        if (now - lastSavedAt >= resumeTokenSaveIntervalMillis) {
+            resumeTokenStore.save(listenerName, lastResumeToken);
+            lastSavedAt = now;
+        }
+    }
+
+    private String businessIdOf(ChangeStreamDocument<Document> change) {
+        BsonValue id = change.getDocumentKey() != null ? change.getDocumentKey().get("_id") : null;
+        Document fullDocument = change.getFullDocument();
+        String businessId = fullDocument != null ? fullDocument.getString("business_id") : null;
+        if (id == null) {
+            return businessId;
+        }
+        if (businessId != null) {
+            businessIdsById.put(id, businessId);
+            return businessId;
+        }
+        if ("delete".equals(change.getOperationTypeString())) {
+            // The document is gone, an unknown business ID clears the caches instead
+            String deleted = businessIdsById.getIfPresent(id);
+            businessIdsById.invalidate(id);
+            return deleted;
+        }
+        return businessIdsById.get(id, this::findBusinessId);
+    }
+
+    private String findBusinessId(BsonValue id) {
+        Query query = Query.query(Criteria.where("_id").is(id));
+        query.fields().include("business_id").exclude("_id");
+        Document found = mongoTemplate.findOne(query, Document.class, COLLECTION);
+        return found != null ? found.getString("business_id") : null;
+    }
+
+    private static boolean isUnresumable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException
+                    && UNRESUMABLE_ERROR_CODES.contains(mongoException.getCode())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.changestreams;
+
+/**
+ * Published inside the node whenever a sample_aggregates document changes,
+ * whichever replica made the change.
+ * 
+ * A resync event stands for changes that were missed, when the change stream
+ * had to be restarted without its resume token.
+ * 
+ * @param businessId business ID of the changed aggregate, null when it is unknown (e.g. deletes, resyncs)
+ * @param operationType the change stream operation type, such as insert, update or delete, or resync
+ */
+public record SampleAggregateChangedEvent(
+    String businessId,
+    String operationType
+) {
+
+    private static final String RESYNC = "resync";
+
+    /**
+     * Creates the event standing for changes missed by the change stream.
+     * 
+     * @return the resync event
+     */
+    public static SampleAggregateChangedEvent resync() {
+        return new SampleAggregateChangedEvent(null, RESYNC);
+    }
+
+    /**
+     * Checks whether changes may have been missed, so node-local state must
+     * be rebuilt rather than updated.
+     * 
+     * @return true for resync events
+     */
+    public boolean isResync() {
+        return RESYNC.equals(operationType);
+    }
+
+    /**
+     * Checks whether the change created a new aggregate.
+     * 
+     * @return true for inserts
+     */
+    public boolean isInsert() {
+        return "insert".equals(operationType);
+    }
+}
@@ -0,0 +1,319 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.counters;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateCounts;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+
+/**
+ * Incrementally maintained aggregate counts, in total and per status.
+ * Kept in a single document of the sample_aggregate_counters collection, so
+ * reading them is one lookup by ID instead of a count over the collection.
+ *
+ * Command services record adjustments after each successful write. They are
+ * summed in memory, in striped LongAdders, and flushed periodically as one $inc,
+ * so writes neither wait for a counter update nor contend on the counters
+ * document. Adjustments not flushed yet when the process stops are lost; those
+ * of a failed flush are kept for the next one, and may be counted twice if the
+ * flush was applied after all. Either way the counts drift until reconciliation
+ * corrects them from the collection. Corrections are deltas applied with $inc,
+ * so they never undo adjustments made while the collection was being counted.
+ *
+ * Until the counters document has been built by a first reconciliation, and
+ * when counters are disabled, no counts are available and callers fall back to
+ * counting the collection.
+ */
+@Component
+public class SampleAggregateCounters {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SampleAggregateCounters.class);
+    private static final String COLLECTION = "sample_aggregate_counters";
+    private static final String COUNTERS_ID = "sample_aggregates";
+    private static final String TOTAL = "total";
+    private static final String BY_STATUS = "by_status.";
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final AtomicLong drift = new AtomicLong();
+    private final ConcurrentMap<String, LongAdder> unflushed = new ConcurrentHashMap<>();
+    private ObservedDrift observedDrift = new ObservedDrift(-1, Map.of());
+
+    public SampleAggregateCounters(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${sample-aggregates.counters.enabled:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        Gauge.builder("sample.aggregates.counters.drift", drift, AtomicLong::get)
+            .description("Difference between the stored aggregate counts and the collection left by the last reconciliation")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reads the current counts.
+     *
+     * @return Optional containing the counts, empty if counters are disabled or not built yet
+     */
+    public Optional<SampleAggregateCounts> read() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Document counters = mongoTemplate.findById(COUNTERS_ID, Document.class, COLLECTION);
+        if (counters == null || counters.get("reconciled_at") == null) {
+            return Optional.empty();
+        }
+
+        Map<String, Long> byStatus = new HashMap<>();
+        Document statuses = counters.get("by_status", Document.class);
+        if (statuses != null) {
+            statuses.forEach((status, count) -> byStatus.put(status, ((Number) count).longValue()));
+        }
+        return Optional.of(new SampleAggregateCounts(((Number) counters.get(TOTAL)).longValue(), Map.copyOf(byStatus)));
+    }
+
+    /**
+     * Counts newly created aggregates.
+     *
+     * @param status the status of the created aggregates
+     * @param created the number of created aggregates
+     */
+    public void recordCreated(String status, long created) {
+        if (created == 0) {
+            return;
+        }
+        adjust(TOTAL, created);
+        adjust(BY_STATUS + status, created);
+    }
+
+    /**
+     * Moves aggregates from one status to another.
+     *
+     * @param fromStatus the previous status
+     * @param toStatus the new status
+     * @param transitioned the number of aggregates that changed status
+     */
+    public void recordTransition(String fromStatus, String toStatus, long transitioned) {
+        if (transitioned == 0) {
+            return;
+        }
+        adjust(BY_STATUS + fromStatus, -transitioned);
+        adjust(BY_STATUS + toStatus, transitioned);
+    }
+
+    /**
+     * Writes the adjustments recorded since the last flush to the counters
+     * document with one $inc. Adjustments recorded while flushing are kept for
+     * the next flush.
+     */
+    @PreDestroy
+    public synchronized void flush() {
+        Map<String, Long> deltas = new HashMap<>();
+        unflushed.forEach((key, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                // Subtracting what was read, rather than resetting, keeps adjustments made meanwhile
+                adder.add(-delta);
+                deltas.put(key, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Update update = new Update();
+        deltas.forEach(update::inc);
+        try {
+            // Not an upsert: counts only exist once a reconciliation has built them from the collection,
+            // and a build counts what was recorded before it
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(COUNTERS_ID)), update, COLLECTION);
+        } catch (DataAccessException e) {
+            deltas.forEach(this::adjust);
+            LOGGER.warn("Could not flush aggregate counters, retrying with the next flush", e);
+        }
+    }
+
+    /**
+     * Recomputes the counts from the collection and corrects the stored ones.
+     *
+     * The first run builds the counters. Later runs compare the stored counts
+     * with the collection and correct the difference with $inc, so adjustments
+     * made meanwhile are kept. Adjustments of this node are flushed first; a
+     * difference is only corrected once two
+     * consecutive runs observe it: a write whose counter update was still in
+     * flight while the collection was counted shows up once, and correcting it
+     * would count it twice. What is left uncorrected is published as the
+     * sample.aggregates.counters.drift gauge.
+     *
+     * @return true if the stored counts matched the collection, or were corrected to match it
+     */
+    public synchronized boolean reconcile() {
+        if (!enabled) {
+            return true;
+        }
+        // Adjustments of this node waiting for a flush would otherwise be seen as drift
+        flush();
+        Document stored = mongoTemplate.findById(COUNTERS_ID, Document.class, COLLECTION);
+        Map<String, Long> counted = countCollection();
+
+        if (stored == null || stored.get("reconciled_at") == null) {
+            boolean built = build(counted);
+            if (built) {
+                LOGGER.info("Aggregate counters built: {}", counted);
+            }
+            observedDrift = new ObservedDrift(0, Map.of());
+            drift.set(0);
+            return built;
+        }
+
+        long reconciliation = longValue(stored.get("reconciliation"));
+        Map<String, Long> observed = difference(counted, storedCounts(stored));
+        Map<String, Long> correction = observedDrift.reconciliation() == reconciliation
+            ? persistentDrift(observed, observedDrift.drift())
+            : Map.of();
+
+        boolean corrected = !correction.isEmpty() && correct(reconciliation, correction);
+        Map<String, Long> remaining = corrected ? difference(observed, correction) : observed;
+        // After a correction the next run starts a new observation
+        observedDrift = corrected ? new ObservedDrift(reconciliation + 1, Map.of()) : new ObservedDrift(reconciliation, observed);
+        drift.set(remaining.values().stream().mapToLong(Math::abs).sum());
+
+        if (corrected) {
+            LOGGER.info("Aggregate counters corrected by {} (observed drift {})", correction, observed);
+        } else if (!observed.isEmpty()) {
+            LOGGER.debug("Aggregate counters drift {} observed, corrected if the next run observes it again", observed);
+        }
+        return remaining.isEmpty();
+    }
+
+    /**
+     * Counts the collection by status, keyed like the fields of the counters document.
+     */
+    private Map<String, Long> countCollection() {
+        Map<String, Long> counts = new HashMap<>();
+        long total = 0;
+        for (Document row : mongoTemplate.aggregate(
+                newAggregation(SampleAggregateRoot.class, group("status").count().as("count")),
+                Document.class)) {
+            long count = ((Number) row.get("count")).longValue();
+            if (row.getString("_id") != null) {
+                counts.put(BY_STATUS + row.getString("_id"), count);
+            }
+            total += count;
+        }
+        counts.put(TOTAL, total);
+        return counts;
+    }
+
+    private static Map<String, Long> storedCounts(Document stored) {
+        Map<String, Long> counts = new HashMap<>();
+        counts.put(TOTAL, longValue(stored.get(TOTAL)));
+        Document statuses = stored.get("by_status", Document.class);
+        if (statuses != null) {
+            statuses.forEach((status, count) -> counts.put(BY_STATUS + status, longValue(count)));
+        }
+        return counts;
+    }
+
+    private boolean build(Map<String, Long> counted) {
+        Document byStatus = new Document();
+        counted.forEach((key, count) -> {
+            if (key.startsWith(BY_STATUS)) {
+                byStatus.append(key.substring(BY_STATUS.length()), count);
+            }
+        });
+        Update counters = new Update()
+            .set(TOTAL, counted.get(TOTAL))
+            .set("by_status", byStatus)
+            .set("reconciled_at", LocalDateTime.now())
+            .set("reconciliation", 0L);
+        try {
+            mongoTemplate.upsert(Query.query(Criteria.where("_id").is(COUNTERS_ID).and("reconciled_at").exists(false)),
+                counters, COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // Another node built the counters at the same time
+            return false;
+        }
+    }
+
+    /**
+     * Applies a correction, unless another node corrected the counters since
+     * they were read.
+     */
+    private boolean correct(long reconciliation, Map<String, Long> correction) {
+        Update update = new Update()
+            .set("reconciled_at", LocalDateTime.now())
+            .inc("reconciliation", 1);
+        correction.forEach(update::inc);
+        Criteria unchanged = reconciliation == 0
+            ? Criteria.where("reconciliation").in(0L, null)
+            : Criteria.where("reconciliation").is(reconciliation);
+        return mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(COUNTERS_ID).andOperator(unchanged)), update, COLLECTION)
+            .getModifiedCount() == 1;
+    }
+
+    private void adjust(String key, long delta) {
+        if (enabled) {
+            unflushed.computeIfAbsent(key, ignored -> new LongAdder()).add(delta);
+        }
+    }
+
+    /**
+     * Returns the part of the drift observed by both runs: per count, the
+     * smaller of the two differences when they have the same sign.
+     */
+    private static Map<String, Long> persistentDrift(Map<String, Long> observed, Map<String, Long> previous) {
+        Map<String, Long> persistent = new HashMap<>();
+        observed.forEach((key, difference) -> {
+            long before = previous.getOrDefault(key, 0L);
+            if (Long.signum(before) == Long.signum(difference)) {
+                persistent.put(key, Long.signum(difference) * Math.min(Math.abs(before), Math.abs(difference)));
+            }
+        });
+        persistent.values().removeIf(difference -> difference == 0);
+        return persistent;
+    }
+
+    private static Map<String, Long> difference(Map<String, Long> minuend, Map<String, Long> subtrahend) {
+        Map<String, Long> difference = new HashMap<>(minuend);
+        subtrahend.forEach((key, count) -> difference.merge(key, -count, Long::sum));
+        difference.values().removeIf(count -> count == 0);
+        return difference;
+    }
+
+    private static long longValue(Object value) {
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+
+    /**
+     * Drift observed by the last run, and the reconciliation number of the
+     * counters it was observed against.
+     */
+    private record ObservedDrift(long reconciliation, Map<String, Long> drift) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.counters;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically flushes the adjustments of the aggregate counters and
+ * recomputes the counters from the collection.
+ * The first run happens right after startup and builds the counters if they
+ * do not exist yet; later runs correct drift left by failed counter updates
+ * once two consecutive runs observe it. Every replica may run it, a run that
+ * races with another's correction only skips its own.
+ */
+@Component
+public class SampleAggregateCountersReconciler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SampleAggregateCountersReconciler.class);
+
+    private final SampleAggregateCounters sampleAggregateCounters;
+
+    public SampleAggregateCountersReconciler(SampleAggregateCounters sampleAggregateCounters) {
+        this.sampleAggregateCounters = sampleAggregateCounters;
+    }
+
+    @Scheduled(fixedDelayString = "${sample-aggregates.counters.flush-interval:PT1S}")
+    public void flush() {
+        try {
+            sampleAggregateCounters.flush();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Aggregate counters flush failed, retrying on the next run", e);
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${sample-aggregates.counters.reconcile-initial-delay:PT0S}",
+        fixedDelayString = "${sample-aggregates.counters.reconcile-interval:PT10M}")
+    public void reconcile() {
+        try {
+            sampleAggregateCounters.reconcile();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Aggregate counters reconciliation failed, retrying on the next run", e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.filters;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories.SampleAggregateRepository;
+import com.levelupjourney.microservicecommunity.shared.infrastructure.probabilistic.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter over all known aggregate business IDs.
+ * Lets lookups for IDs that do not exist be answered without a database round trip.
+ * 
+ * The filter is rebuilt at startup by streaming every business_id from the
+ * collection and kept current by the command services, which register each
+ * created ID. Until the first rebuild has finished, or when the filter is
+ * disabled, every ID is reported as possibly existing.
+ * 
+ * Writes made through this node are registered directly. On deployments with
+ * several replicas, other nodes' inserts arrive through the change stream listener.
+ * Since that can lag, only reads consult the filter: writes always go to the
+ * database, whose findAndModify answers "not found" in the same round trip.
+ */
+@Component
+public class SampleAggregateBusinessIdFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SampleAggregateBusinessIdFilter.class);
+
+    private final SampleAggregateRepository sampleAggregateRepository;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long maxMemoryBytes;
+    private final Counter savedLookups;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter rebuilding;
+
+    public SampleAggregateBusinessIdFilter(
+            SampleAggregateRepository sampleAggregateRepository,
+            MeterRegistry meterRegistry,
+            @Value("${sample-aggregates.existence-filter.enabled:false}") boolean enabled,
+            @Value("${sample-aggregates.existence-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${sample-aggregates.existence-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${sample-aggregates.existence-filter.max-memory-bytes:16777216}") long maxMemoryBytes) {
+        this.sampleAggregateRepository = sampleAggregateRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.savedLookups = Counter.builder("sample.aggregates.existence.filter.saved.lookups")
+            .description("Lookups answered as not found by the business ID filter without querying MongoDB")
+            .register(meterRegistry);
+        Gauge.builder("sample.aggregates.existence.filter.bits", this, filter -> filter.current != null ? filter.current.bitSize() : 0)
+            .description("Size of the business ID filter bit array")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Checks whether an aggregate with the given business ID may exist.
+     * A false answer is definite and counts as a saved database lookup.
+     * 
+     * @param businessId the business ID to check
+     * @return false if no aggregate with the ID exists, true if it may exist
+     */
+    public boolean mightExist(String businessId) {
+        BloomFilter filter = current;
+        if (filter == null || filter.mightContain(businessId)) {
+            return true;
+        }
+        savedLookups.increment();
+        return false;
+    }
+
+    /**
+     * Registers the business ID of a newly created aggregate.
+     * 
+     * @param businessId the business ID to register
+     */
+    public void register(String businessId) {
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(businessId);
+        }
+        // Also feed a rebuild in progress, so IDs created meanwhile are not lost when it is swapped in
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(businessId);
+        }
+        // A rebuild swapped in after the first read, but before rebuilding was read, missed the ID
+        BloomFilter latest = current;
+        if (latest != filter && latest != next) {
+            latest.put(businessId);
+        }
+    }
+
+    /**
+     * Starts the initial rebuild once the application is ready.
+     * It runs on its own thread so startup and readiness do not wait for it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread rebuildThread = new Thread(this::rebuild, "business-id-filter-rebuild");
+        rebuildThread.setDaemon(true);
+        rebuildThread.start();
+    }
+
+    /**
+     * Rebuilds the filter from the business IDs stored in the collection.
+     * Sized for twice the current collection size, or the configured expected
+     * insertions if larger, to leave headroom for growth.
+     * Does nothing when the filter is disabled. Rebuilds run one at a time,
+     * so IDs registered during one are never fed to a filter that is discarded.
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long existing = sampleAggregateRepository.count();
+            BloomFilter next = BloomFilter.create(
+                Math.max(expectedInsertions, existing * 2), falsePositiveRate, maxMemoryBytes);
+            rebuilding = next;
+
+            long loaded = 0;
+            try (Stream<SampleAggregateRoot> aggregates = sampleAggregateRepository.streamAllBusinessIds()) {
+                for (SampleAggregateRoot aggregate : (Iterable<SampleAggregateRoot>) aggregates::iterator) {
+                    next.put(aggregate.getBusinessId());
+                    loaded++;
+                }
+            }
+
+            current = next;
+            LOGGER.info("Business ID filter rebuilt with {} IDs ({} bits, {} hash functions)",
+                loaded, next.bitSize(), next.hashFunctions());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Business ID filter rebuild failed, lookups keep going to the database", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.outbox;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.outbox.MongoOutboxRelay;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically drains the outbox of the sample aggregates.
+ * Each run dispatches batches until one finds no event due, so a backlog is
+ * worked off without waiting for the next run, while aggregates waiting for a
+ * retry never keep a run going. Every replica may run
+ * it; the relay's leases keep two runs from dispatching the same aggregate.
+ */
+@Component
+public class SampleAggregateOutboxDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SampleAggregateOutboxDispatcher.class);
+
+    private final MongoOutboxRelay outboxRelay;
+    private final String collection;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public SampleAggregateOutboxDispatcher(
+            MongoOutboxRelay outboxRelay,
+            MongoTemplate mongoTemplate,
+            @Value("${sample-aggregates.outbox.enabled:true}") boolean enabled,
+            @Value("${sample-aggregates.outbox.batch-size:100}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Outbox batch size must be at least 1");
+        }
+        this.outboxRelay = outboxRelay;
+        this.collection = mongoTemplate.getCollectionName(SampleAggregateRoot.class);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${sample-aggregates.outbox.dispatch-interval:PT0.5S}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int dispatched;
+            do {
+                dispatched = outboxRelay.dispatch(collection, batchSize);
+            } while (dispatched > 0);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Outbox dispatch failed, retrying on the next run", e);
+        }
+    }
+}
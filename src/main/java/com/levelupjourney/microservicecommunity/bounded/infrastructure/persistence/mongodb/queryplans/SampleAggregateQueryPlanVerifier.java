@@ -0,0 +1,126 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.queryplans;
+
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories.SampleAggregateRepository;
+import com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.queryplans.QueryPlanGuard;
+import com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.queryplans.QueryPlanGuardMode;
+import com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.queryplans.QueryPlanViolation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Verifies the query plans of every SampleAggregateRepository query method.
+ * Each method is called once with representative arguments and the commands
+ * it sends are explained by the QueryPlanGuard.
+ *
+ * Runs when the application is ready and mongodb.query-plan-guard.mode is
+ * warn or fail. Point it at a seeded database: plans are chosen from the
+ * indexes declared on SampleAggregateRoot, but the examined/returned ratio
+ * is only meaningful with realistic data.
+ *
+ * Query methods declared on the repository without a check here are reported
+ * as violations too, so new queries cannot skip verification.
+ */
+@Component
+public class SampleAggregateQueryPlanVerifier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SampleAggregateQueryPlanVerifier.class);
+    private static final String PROBE_BUSINESS_ID = "query-plan-probe";
+    private static final String PROBE_ID = "000000000000000000000000";
+
+    private final SampleAggregateRepository sampleAggregateRepository;
+    private final QueryPlanGuard queryPlanGuard;
+    private final QueryPlanGuardMode mode;
+
+    public SampleAggregateQueryPlanVerifier(
+            SampleAggregateRepository sampleAggregateRepository,
+            QueryPlanGuard queryPlanGuard,
+            @Value("${mongodb.query-plan-guard.mode:off}") QueryPlanGuardMode mode) {
+        this.sampleAggregateRepository = sampleAggregateRepository;
+        this.queryPlanGuard = queryPlanGuard;
+        this.mode = mode;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (mode == QueryPlanGuardMode.OFF) {
+            return;
+        }
+        List<QueryPlanViolation> violations = verify();
+        if (violations.isEmpty()) {
+            LOGGER.info("Query plans of SampleAggregateRepository verified");
+            return;
+        }
+        violations.forEach(violation -> LOGGER.warn("Query plan violation in {}: {} ({})",
+            violation.query(), violation.reason(), violation.command()));
+        if (mode == QueryPlanGuardMode.FAIL) {
+            throw new IllegalStateException(violations.size() + " query plan violation(s) in SampleAggregateRepository");
+        }
+    }
+
+    /**
+     * Verifies every repository query method.
+     *
+     * @return the violations found, empty if every plan is acceptable
+     */
+    public List<QueryPlanViolation> verify() {
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest newestFirst = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        // Method name -> invocation; full scans are only accepted where the query has no filter
+        Map<String, Runnable> indexed = new LinkedHashMap<>();
+        indexed.put("findByBusinessId", () -> sampleAggregateRepository.findByBusinessId(PROBE_BUSINESS_ID));
+        indexed.put("findSummaryByBusinessId", () -> sampleAggregateRepository.findSummaryByBusinessId(PROBE_BUSINESS_ID));
+        indexed.put("findByStatus", () -> sampleAggregateRepository.findByStatus("ACTIVE"));
+        indexed.put("findSummariesByStatus", () -> sampleAggregateRepository.findSummariesByStatus("ACTIVE", newestFirst));
+        indexed.put("findPageByStatus", () -> sampleAggregateRepository.findPageByStatus("ACTIVE", newestFirst));
+        indexed.put("existsByBusinessId", () -> sampleAggregateRepository.existsByBusinessId(PROBE_BUSINESS_ID));
+        indexed.put("findStatusesByBusinessIdIn", () -> sampleAggregateRepository.findStatusesByBusinessIdIn(List.of(PROBE_BUSINESS_ID)));
+        indexed.put("findByCreatedAtBetween", () -> sampleAggregateRepository.findByCreatedAtBetween(now.minusDays(1), now));
+        indexed.put("findActiveAggregates", sampleAggregateRepository::findActiveAggregates);
+        indexed.put("findActiveSummaries", sampleAggregateRepository::findActiveSummaries);
+        indexed.put("streamActiveSummaries", () -> {
+            try (Stream<?> summaries = sampleAggregateRepository.streamActiveSummaries()) {
+                summaries.findFirst();
+            }
+        });
+        indexed.put("countByStatus", () -> sampleAggregateRepository.countByStatus("ACTIVE"));
+        indexed.put("findAfter", () -> sampleAggregateRepository.findAfter(now.minusDays(1), PROBE_ID, 20));
+
+        Map<String, Runnable> fullScans = new LinkedHashMap<>();
+        fullScans.put("findAllSummaries", () -> sampleAggregateRepository.findAllSummaries(newestFirst));
+        fullScans.put("streamAllBusinessIds", () -> {
+            try (Stream<?> businessIds = sampleAggregateRepository.streamAllBusinessIds()) {
+                businessIds.findFirst();
+            }
+        });
+
+        List<QueryPlanViolation> violations = new ArrayList<>();
+        indexed.forEach((name, invocation) -> violations.addAll(queryPlanGuard.verify(name, invocation, false)));
+        fullScans.forEach((name, invocation) -> violations.addAll(queryPlanGuard.verify(name, invocation, true)));
+
+        Set<String> unverified = Arrays.stream(SampleAggregateRepository.class.getDeclaredMethods())
+            .map(Method::getName)
+            .filter(name -> !indexed.containsKey(name) && !fullScans.containsKey(name))
+            .collect(Collectors.toCollection(TreeSet::new));
+        unverified.forEach(name -> violations.add(new QueryPlanViolation(name, "", "query method has no plan check")));
+        return violations;
+    }
+}
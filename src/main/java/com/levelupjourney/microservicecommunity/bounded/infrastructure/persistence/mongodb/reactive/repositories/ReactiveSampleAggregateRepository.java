@@ -0,0 +1,75 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.reactive.repositories;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Meta;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive MongoDB Repository for SampleAggregateRoot.
+ * Non-blocking counterpart of SampleAggregateRepository for the read side,
+ * used when the reactive profile is active.
+ */
+@Repository
+public interface ReactiveSampleAggregateRepository
+        extends ReactiveMongoRepository<SampleAggregateRoot, String>, ReactiveSampleAggregateRepositoryCustom {
+
+    /**
+     * Find the projection of an aggregate by business identifier.
+     * 
+     * @param businessId the business identifier
+     * @return Mono emitting the aggregate projection, empty if not found
+     */
+    Mono<SampleAggregateSummary> findSummaryByBusinessId(String businessId);
+
+    /**
+     * Find a page of aggregate projections.
+     * 
+     * @param pageable pagination information
+     * @return Flux of the aggregate projections on the page
+     */
+    @Query("{}")
+    Flux<SampleAggregateSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Find a page of aggregate projections by status.
+     * 
+     * @param status the status to filter by
+     * @param pageable pagination information
+     * @return Flux of the aggregate projections on the page
+     */
+    @Query("{ 'status' : ?0 }")
+    Flux<SampleAggregateSummary> findSummariesByStatus(String status, Pageable pageable);
+
+    /**
+     * Find the projections of active aggregates.
+     * Documents are requested from the cursor in fixed-size batches as the
+     * subscriber signals demand.
+     * 
+     * @return Flux of active aggregate projections
+     */
+    @Query("{ 'status' : 'ACTIVE' }")
+    @Meta(cursorBatchSize = 500)
+    Flux<SampleAggregateSummary> findActiveSummaries();
+
+    /**
+     * Check if aggregate exists by business identifier.
+     * 
+     * @param businessId the business identifier
+     * @return Mono emitting true if aggregate exists
+     */
+    Mono<Boolean> existsByBusinessId(String businessId);
+
+    /**
+     * Count aggregates by status.
+     * 
+     * @param status the status to count
+     * @return Mono emitting the count of aggregates with the specified status
+     */
+    Mono<Long> countByStatus(String status);
+}
@@ -0,0 +1,24 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.reactive.repositories;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Custom reactive repository fragment for SampleAggregateRoot.
+ * Holds the queries that cannot be expressed as derived or annotated queries.
+ */
+public interface ReactiveSampleAggregateRepositoryCustom {
+
+    /**
+     * Finds aggregates ordered by creation time and ID, starting after the given position.
+     * Uses the created_at/_id index, so the cost does not depend on how deep the page is.
+     * 
+     * @param afterCreatedAt creation time of the last aggregate already seen, null to start at the beginning
+     * @param afterId ID of the last aggregate already seen, null to start at the beginning
+     * @param limit maximum number of aggregates to return
+     * @return Flux of aggregate projections following the given position
+     */
+    Flux<SampleAggregateSummary> findAfter(LocalDateTime afterCreatedAt, String afterId, int limit);
+}
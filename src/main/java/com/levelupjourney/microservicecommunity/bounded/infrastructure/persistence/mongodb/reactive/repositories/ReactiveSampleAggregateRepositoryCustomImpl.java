@@ -0,0 +1,39 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.reactive.repositories;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * ReactiveMongoTemplate based implementation of ReactiveSampleAggregateRepositoryCustom.
+ */
+public class ReactiveSampleAggregateRepositoryCustomImpl implements ReactiveSampleAggregateRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    public ReactiveSampleAggregateRepositoryCustomImpl(ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+    }
+
+    @Override
+    public Flux<SampleAggregateSummary> findAfter(LocalDateTime afterCreatedAt, String afterId, int limit) {
+        Query query = new Query();
+        if (afterId != null) {
+            query.addCriteria(new Criteria().orOperator(
+                Criteria.where("createdAt").gt(afterCreatedAt),
+                Criteria.where("createdAt").is(afterCreatedAt).and("id").gt(afterId)));
+        }
+        query.with(Sort.by(Sort.Direction.ASC, "createdAt", "id")).limit(limit);
+
+        return reactiveMongoTemplate.query(SampleAggregateRoot.class)
+            .as(SampleAggregateSummary.class)
+            .matching(query)
+            .all();
+    }
+}
@@ -0,0 +1,55 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateCategoryCount;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateStatusCount;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateTimeBucketCount;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleEntityValueTotals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom repository fragment for SampleAggregateRoot analytics.
+ * Every statistic is computed by an aggregation pipeline on the server; only
+ * the grouped results are returned. Each pipeline starts with a match on the
+ * creation time range, served by the created_at index.
+ */
+public interface SampleAggregateAnalyticsRepository {
+
+    /**
+     * Counts aggregates per status.
+     * 
+     * @param from start of the creation time range, inclusive
+     * @param to end of the creation time range, exclusive
+     * @return List of counts ordered by status
+     */
+    List<SampleAggregateStatusCount> countByStatusCreatedBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Counts aggregates per creation time bucket.
+     * Buckets without aggregates are not returned.
+     * 
+     * @param bucketBoundaries ascending bucket starts, followed by the end of the last bucket
+     * @return List of counts ordered by bucket start
+     */
+    List<SampleAggregateTimeBucketCount> countByCreationTimeBuckets(List<LocalDateTime> bucketBoundaries);
+
+    /**
+     * Counts aggregates per value object category and priority.
+     * 
+     * @param from start of the creation time range, inclusive
+     * @param to end of the creation time range, exclusive
+     * @return List of counts ordered by category and priority
+     */
+    List<SampleAggregateCategoryCount> countByCategoryAndPriorityCreatedBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Sums the values of the entities embedded in aggregates.
+     * 
+     * @param from start of the creation time range, inclusive
+     * @param to end of the creation time range, exclusive
+     * @param multiplier the multiplier of the business value calculation
+     * @return the totals, zero if no entity matched
+     */
+    SampleEntityValueTotals sumEntityValuesCreatedBetween(LocalDateTime from, LocalDateTime to, double multiplier);
+}
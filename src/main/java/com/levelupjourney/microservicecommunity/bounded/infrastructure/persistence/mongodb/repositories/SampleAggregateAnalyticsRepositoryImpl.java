@@ -0,0 +1,102 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateCategoryCount;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateStatusCount;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateTimeBucketCount;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleEntityValueTotals;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.MatchOperation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.bucket;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.unwind;
+
+/**
+ * MongoTemplate based implementation of SampleAggregateAnalyticsRepository.
+ * Pipelines are typed on SampleAggregateRoot, so they refer to properties
+ * and the mapping translates them to document field names. Types embedded in
+ * the aggregate are written by hand-written converters and have no mapping
+ * metadata, so paths into them use stored field names.
+ */
+public class SampleAggregateAnalyticsRepositoryImpl implements SampleAggregateAnalyticsRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public SampleAggregateAnalyticsRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<SampleAggregateStatusCount> countByStatusCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        TypedAggregation<SampleAggregateRoot> aggregation = newAggregation(SampleAggregateRoot.class,
+            createdBetween(from, to),
+            group("status").count().as("count"),
+            project("count").and("status").previousOperation(),
+            sort(Sort.Direction.ASC, "status"));
+
+        return mongoTemplate.aggregate(aggregation, SampleAggregateStatusCount.class).getMappedResults();
+    }
+
+    @Override
+    public List<SampleAggregateTimeBucketCount> countByCreationTimeBuckets(List<LocalDateTime> bucketBoundaries) {
+        TypedAggregation<SampleAggregateRoot> aggregation = newAggregation(SampleAggregateRoot.class,
+            createdBetween(bucketBoundaries.getFirst(), bucketBoundaries.getLast()),
+            bucket("createdAt").withBoundaries(bucketBoundaries.toArray()).andOutputCount().as("count"),
+            project("count").and("bucketStart").previousOperation());
+
+        return mongoTemplate.aggregate(aggregation, SampleAggregateTimeBucketCount.class).getMappedResults();
+    }
+
+    @Override
+    public List<SampleAggregateCategoryCount> countByCategoryAndPriorityCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        TypedAggregation<SampleAggregateRoot> aggregation = newAggregation(SampleAggregateRoot.class,
+            createdBetween(from, to),
+            group("sample_value_object.category", "sample_value_object.priority").count().as("count"),
+            project("category", "priority", "count").andExclude("_id"),
+            sort(Sort.Direction.ASC, "category", "priority"));
+
+        return mongoTemplate.aggregate(aggregation, SampleAggregateCategoryCount.class).getMappedResults();
+    }
+
+    @Override
+    public SampleEntityValueTotals sumEntityValuesCreatedBetween(LocalDateTime from, LocalDateTime to, double multiplier) {
+        // Mirrors SampleEntity.calculateBusinessValue: inactive entities and missing values count as zero
+        ConditionalOperators.Cond activeFlag = ConditionalOperators.when(Criteria.where("sample_entities.is_active").is(true))
+            .then(1)
+            .otherwise(0);
+        ConditionalOperators.Cond businessValue = ConditionalOperators.when(Criteria.where("sample_entities.is_active").is(true))
+            .thenValueOf(ArithmeticOperators.valueOf("sample_entities.value").multiplyBy(multiplier))
+            .otherwise(0);
+
+        TypedAggregation<SampleAggregateRoot> aggregation = newAggregation(SampleAggregateRoot.class,
+            createdBetween(from, to),
+            unwind("sampleEntities"),
+            group()
+                .count().as("entityCount")
+                .sum(activeFlag).as("activeEntityCount")
+                .sum("sample_entities.value").as("valueSum")
+                .sum(businessValue).as("businessValueSum"),
+            project("entityCount", "activeEntityCount", "valueSum", "businessValueSum").andExclude("_id"));
+
+        SampleEntityValueTotals totals =
+            mongoTemplate.aggregate(aggregation, SampleEntityValueTotals.class).getUniqueMappedResult();
+        return totals != null ? totals : SampleEntityValueTotals.EMPTY;
+    }
+
+    private static MatchOperation createdBetween(LocalDateTime from, LocalDateTime to) {
+        return match(Criteria.where("createdAt").gte(from).lt(to));
+    }
+}
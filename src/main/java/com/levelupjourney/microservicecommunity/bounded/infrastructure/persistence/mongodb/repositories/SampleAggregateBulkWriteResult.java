@@ -0,0 +1,36 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.BatchOperationOutcome;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-item result of SampleAggregateRepositoryCustom.bulkWrite.
+ * Positions refer to the lists passed to the bulk write.
+ *
+ * @param rejectedInserts positions in the inserts rejected by the unique business_id index
+ * @param unmatchedUpdates positions in the updates whose filter matched no aggregate, with NOT_FOUND or CONFLICT
+ * @param unmatchedDeactivations positions in the deactivations whose filter matched no aggregate, with NOT_FOUND or CONFLICT
+ */
+public record SampleAggregateBulkWriteResult(
+    Set<Integer> rejectedInserts,
+    Map<Integer, BatchOperationOutcome> unmatchedUpdates,
+    Map<Integer, BatchOperationOutcome> unmatchedDeactivations
+) {
+
+    /**
+     * Result of a bulk write in which every item was applied.
+     */
+    public static final SampleAggregateBulkWriteResult ALL_APPLIED =
+        new SampleAggregateBulkWriteResult(Set.of(), Map.of(), Map.of());
+
+    /**
+     * Constructor with defensive copies.
+     */
+    public SampleAggregateBulkWriteResult {
+        rejectedInserts = Set.copyOf(rejectedInserts);
+        unmatchedUpdates = Map.copyOf(unmatchedUpdates);
+        unmatchedDeactivations = Map.copyOf(unmatchedDeactivations);
+    }
+}
@@ -1,20 +1,31 @@
 package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories;
 
 import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * MongoDB Repository for SampleAggregateRoot following DDD principles.
  * Provides data access methods for the Sample Aggregate.
+ * Atomic in-place writes are provided by SampleAggregateRepositoryCustom,
+ * server-side statistics by SampleAggregateAnalyticsRepository.
+ * Read endpoints use the methods returning SampleAggregateSummary, which
+ * only fetch the top-level fields of each document.
  */
 @Repository
-public interface SampleAggregateRepository extends MongoRepository<SampleAggregateRoot, String> {
+public interface SampleAggregateRepository extends MongoRepository<SampleAggregateRoot, String>,
+        SampleAggregateRepositoryCustom, SampleAggregateAnalyticsRepository {
 
     /**
      * Find aggregate by business identifier.
@@ -24,6 +35,23 @@ public interface SampleAggregateRepository extends MongoRepository<SampleAggrega
      */
     Optional<SampleAggregateRoot> findByBusinessId(String businessId);
 
+    /**
+     * Find the projection of an aggregate by business identifier.
+     * 
+     * @param businessId the business identifier
+     * @return Optional containing the aggregate projection if found
+     */
+    Optional<SampleAggregateSummary> findSummaryByBusinessId(String businessId);
+
+    /**
+     * Find a page of aggregate projections.
+     * 
+     * @param pageable pagination information
+     * @return Page of aggregate projections
+     */
+    @Query("{}")
+    Page<SampleAggregateSummary> findAllSummaries(Pageable pageable);
+
     /**
      * Find aggregates by status using MongoDB query.
      * Example of custom query using @Query annotation.
@@ -34,6 +62,28 @@ public interface SampleAggregateRepository extends MongoRepository<SampleAggrega
     @Query("{ 'status' : ?0 }")
     List<SampleAggregateRoot> findByStatus(String status);
 
+    /**
+     * Find a page of aggregate projections by status.
+     * Filter, sort and limit are applied by MongoDB using the status/created_at index.
+     * 
+     * @param status the status to filter by
+     * @param pageable pagination information
+     * @return Page of aggregate projections with the specified status
+     */
+    @Query("{ 'status' : ?0 }")
+    Page<SampleAggregateSummary> findSummariesByStatus(String status, Pageable pageable);
+
+    /**
+     * Find a page of full aggregates by status.
+     * Used to build views directly from the write model when the read model lags.
+     * 
+     * @param status the status to filter by
+     * @param pageable pagination information
+     * @return Page of aggregates with the specified status
+     */
+    @Query("{ 'status' : ?0 }")
+    Page<SampleAggregateRoot> findPageByStatus(String status, Pageable pageable);
+
     /**
      * Check if aggregate exists by business identifier.
      * 
@@ -42,6 +92,16 @@ public interface SampleAggregateRepository extends MongoRepository<SampleAggrega
      */
     boolean existsByBusinessId(String businessId);
 
+    /**
+     * Find the business identifier and status of several aggregates at once.
+     * Only those two fields are loaded, the rest of the aggregate is left unset.
+     * 
+     * @param businessIds the business identifiers to look up
+     * @return List of partially loaded aggregates that exist
+     */
+    @Query(value = "{ 'business_id' : { $in : ?0 } }", fields = "{ 'business_id' : 1, 'status' : 1 }")
+    List<SampleAggregateRoot> findStatusesByBusinessIdIn(Collection<String> businessIds);
+
     /**
      * Find aggregates created between dates.
      * Example of query method using Spring Data MongoDB naming conventions.
@@ -60,8 +120,40 @@ public interface SampleAggregateRepository extends MongoRepository<SampleAggrega
     @Query("{ 'status' : 'ACTIVE' }")
     List<SampleAggregateRoot> findActiveAggregates();
 
+    /**
+     * Find the projections of active aggregates.
+     * 
+     * @return List of active aggregate projections
+     */
+    @Query("{ 'status' : 'ACTIVE' }")
+    List<SampleAggregateSummary> findActiveSummaries();
+
+    /**
+     * Stream the projections of active aggregates through a MongoDB cursor.
+     * Documents are fetched in fixed-size batches as the stream is consumed,
+     * so memory use does not grow with the number of matches.
+     * The returned stream holds an open cursor and must be closed.
+     * 
+     * @return Stream of active aggregate projections
+     */
+    @Query("{ 'status' : 'ACTIVE' }")
+    @Meta(cursorBatchSize = 500)
+    Stream<SampleAggregateSummary> streamActiveSummaries();
+
+    /**
+     * Stream the business identifier of every aggregate through a MongoDB cursor.
+     * Only business_id is loaded, the rest of the aggregate is left unset.
+     * The returned stream holds an open cursor and must be closed.
+     * 
+     * @return Stream of partially loaded aggregates
+     */
+    @Query(value = "{}", fields = "{ 'business_id' : 1 }")
+    @Meta(cursorBatchSize = 5000)
+    Stream<SampleAggregateRoot> streamAllBusinessIds();
+
     /**
      * Count aggregates by status.
+     * Served as an index-only count from the status/created_at index.
      * 
      * @param status the status to count
      * @return count of aggregates with the specified status
@@ -0,0 +1,118 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.entities.SampleEntity;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.DeactivateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Custom repository fragment for SampleAggregateRoot.
+ * Holds the write operations that are applied server-side as atomic
+ * in-place updates instead of load-modify-save.
+ */
+public interface SampleAggregateRepositoryCustom {
+
+    /**
+     * Atomically updates name and description of an aggregate.
+     * 
+     * @param businessId the business identifier
+     * @param name the new name
+     * @param description the new description
+     * @param expectedVersion the version the aggregate must have, null to update any version
+     * @return Optional containing the updated aggregate, empty if not found or at another version
+     */
+    Optional<SampleAggregateRoot> updateDetailsByBusinessId(String businessId, String name, String description, Long expectedVersion);
+
+    /**
+     * Atomically deactivates an aggregate that is not already inactive.
+     * 
+     * @param businessId the business identifier
+     * @param expectedVersion the version the aggregate must have, null to deactivate any version
+     * @return Optional containing the deactivated aggregate, empty if not found, already inactive or at another version
+     */
+    Optional<SampleAggregateRoot> deactivateByBusinessId(String businessId, Long expectedVersion);
+
+    /**
+     * Atomically appends an entity to an aggregate.
+     * The aggregate must hold fewer than SampleAggregateRoot.MAX_SAMPLE_ENTITIES
+     * entities and no entity with the same ID.
+     * 
+     * @param businessId the business identifier
+     * @param entity the entity to add
+     * @param expectedVersion the version the aggregate must have, null to add to any version
+     * @return Optional containing the updated aggregate, empty if not found, full, holding
+     *         the entity ID already or at another version
+     */
+    Optional<SampleAggregateRoot> addSampleEntity(String businessId, SampleEntity entity, Long expectedVersion);
+
+    /**
+     * Atomically updates name and value of an embedded entity.
+     * 
+     * @param businessId the business identifier
+     * @param entityId the entity identifier
+     * @param name the new name
+     * @param value the new value
+     * @param expectedVersion the version the aggregate must have, null to update any version
+     * @return Optional containing the updated aggregate, empty if the aggregate or entity
+     *         was not found or the aggregate is at another version
+     */
+    Optional<SampleAggregateRoot> updateSampleEntity(
+        String businessId, String entityId, String name, Double value, Long expectedVersion);
+
+    /**
+     * Atomically activates or deactivates an embedded entity that is not already in that state.
+     * 
+     * @param businessId the business identifier
+     * @param entityId the entity identifier
+     * @param active true to activate, false to deactivate
+     * @param expectedVersion the version the aggregate must have, null to change any version
+     * @return Optional containing the updated aggregate, empty if the aggregate or entity
+     *         was not found, the entity is already in that state or the aggregate is at another version
+     */
+    Optional<SampleAggregateRoot> setSampleEntityActive(
+        String businessId, String entityId, boolean active, Long expectedVersion);
+
+    /**
+     * Atomically removes an embedded entity.
+     * 
+     * @param businessId the business identifier
+     * @param entityId the entity identifier
+     * @param expectedVersion the version the aggregate must have, null to remove from any version
+     * @return Optional containing the updated aggregate, empty if the aggregate or entity
+     *         was not found or the aggregate is at another version
+     */
+    Optional<SampleAggregateRoot> removeSampleEntity(String businessId, String entityId, Long expectedVersion);
+
+    /**
+     * Runs inserts, detail updates and deactivations as a single unordered bulk write.
+     * Updates and deactivations use the same filters as their single-item counterparts,
+     * including their expected versions, so any of them may match nothing when
+     * another writer got there first.
+     * 
+     * @param inserts the aggregates to insert
+     * @param updates the detail updates to apply
+     * @param deactivations the deactivations to apply
+     * @return the inserts, updates and deactivations that were not applied, updates and deactivations
+     *         classified as not found or conflicting by the current state of their aggregates
+     */
+    SampleAggregateBulkWriteResult bulkWrite(
+        List<SampleAggregateRoot> inserts,
+        List<UpdateSampleAggregateCommand> updates,
+        List<DeactivateSampleAggregateCommand> deactivations);
+
+    /**
+     * Finds aggregates ordered by creation time and ID, starting after the given position.
+     * Uses the created_at/_id index, so the cost does not depend on how deep the page is.
+     * 
+     * @param afterCreatedAt creation time of the last aggregate already seen, null to start at the beginning
+     * @param afterId ID of the last aggregate already seen, null to start at the beginning
+     * @param limit maximum number of aggregates to return
+     * @return List of aggregate projections following the given position
+     */
+    List<SampleAggregateSummary> findAfter(LocalDateTime afterCreatedAt, String afterId, int limit);
+}
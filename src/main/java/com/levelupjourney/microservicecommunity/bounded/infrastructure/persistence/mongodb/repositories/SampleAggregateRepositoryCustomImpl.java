@@ -0,0 +1,285 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.DeactivateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.entities.SampleEntity;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleAggregateDeactivatedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleAggregateUpdatedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleEntityAddedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleEntityRemovedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.events.SampleEntityUpdatedEvent;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.BatchOperationOutcome;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.SampleAggregateStatus;
+import com.levelupjourney.microservicecommunity.shared.domain.model.events.PendingDomainEvent;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * MongoTemplate based implementation of SampleAggregateRepositoryCustom.
+ * Single-item operations are one findAndModify returning the post-image, so only
+ * the changed fields are written and concurrent writers cannot lose updates.
+ * Batches reuse the same filters and updates inside one unordered bulk write;
+ * when some of their updates matched nothing, one query of the status and
+ * version of the aggregates tells which items were not found or conflicted.
+ * Embedded entities are changed with $push, positional $set and $pull on the
+ * sample_entities array, so an entity change never rewrites the whole document.
+ * Embedded types are written by hand-written converters and have no mapping
+ * metadata, so paths into them use stored field names.
+ * Every update also pushes its domain event into the outbox of the document,
+ * so the event is recorded if and only if the change is, and increments the
+ * version; an expected version turns into a condition of the filter.
+ */
+public class SampleAggregateRepositoryCustomImpl implements SampleAggregateRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public SampleAggregateRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<SampleAggregateRoot> updateDetailsByBusinessId(
+            String businessId, String name, String description, Long expectedVersion) {
+        return findAndModify(
+            atVersion(byBusinessId(businessId), expectedVersion), updateDetails(businessId, name, description));
+    }
+
+    @Override
+    public Optional<SampleAggregateRoot> deactivateByBusinessId(String businessId, Long expectedVersion) {
+        return findAndModify(atVersion(activeByBusinessId(businessId), expectedVersion), deactivate(businessId));
+    }
+
+    @Override
+    public Optional<SampleAggregateRoot> addSampleEntity(String businessId, SampleEntity entity, Long expectedVersion) {
+        // The entity cap holds when the last allowed array position is still free
+        Query notFull = byBusinessId(businessId)
+            .addCriteria(Criteria.where("sample_entities." + (SampleAggregateRoot.MAX_SAMPLE_ENTITIES - 1)).exists(false))
+            .addCriteria(Criteria.where("sample_entities.entity_id").ne(entity.getEntityId()));
+        return findAndModify(atVersion(notFull, expectedVersion), changed(new Update()
+            .push("sampleEntities", entity), new SampleEntityAddedEvent(businessId, entity.getEntityId())));
+    }
+
+    @Override
+    public Optional<SampleAggregateRoot> updateSampleEntity(
+            String businessId, String entityId, String name, Double value, Long expectedVersion) {
+        Query withEntity = byBusinessId(businessId).addCriteria(Criteria.where("sample_entities.entity_id").is(entityId));
+        return findAndModify(atVersion(withEntity, expectedVersion), changed(new Update()
+            .set("sample_entities.$.name", name)
+            .set("sample_entities.$.value", value), new SampleEntityUpdatedEvent(businessId, entityId)));
+    }
+
+    @Override
+    public Optional<SampleAggregateRoot> setSampleEntityActive(
+            String businessId, String entityId, boolean active, Long expectedVersion) {
+        Query withEntityToChange = byBusinessId(businessId).addCriteria(Criteria.where("sample_entities")
+            .elemMatch(Criteria.where("entity_id").is(entityId).and("is_active").ne(active)));
+        // The filter has to match the entity with $elemMatch, so the element is addressed by an array filter
+        return findAndModify(atVersion(withEntityToChange, expectedVersion), changed(new Update()
+            .set("sample_entities.$[entity].is_active", active)
+            .filterArray(Criteria.where("entity.entity_id").is(entityId)), new SampleEntityUpdatedEvent(businessId, entityId)));
+    }
+
+    @Override
+    public Optional<SampleAggregateRoot> removeSampleEntity(String businessId, String entityId, Long expectedVersion) {
+        Query withEntity = byBusinessId(businessId).addCriteria(Criteria.where("sample_entities.entity_id").is(entityId));
+        return findAndModify(atVersion(withEntity, expectedVersion), changed(new Update()
+            .pull("sampleEntities", new Document("entity_id", entityId)), new SampleEntityRemovedEvent(businessId, entityId)));
+    }
+
+    @Override
+    public SampleAggregateBulkWriteResult bulkWrite(
+            List<SampleAggregateRoot> inserts,
+            List<UpdateSampleAggregateCommand> updates,
+            List<DeactivateSampleAggregateCommand> deactivations) {
+
+        if (inserts.isEmpty() && updates.isEmpty() && deactivations.isEmpty()) {
+            return SampleAggregateBulkWriteResult.ALL_APPLIED;
+        }
+
+        // Inserts go first so that bulk error indexes map straight onto the inserts list
+        BulkOperations bulkOperations =
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SampleAggregateRoot.class);
+        bulkOperations.insert(inserts);
+        for (UpdateSampleAggregateCommand command : updates) {
+            bulkOperations.updateOne(
+                atVersion(byBusinessId(command.businessId()), command.expectedVersion()),
+                updateDetails(command.businessId(), command.name(), command.description()));
+        }
+        for (DeactivateSampleAggregateCommand command : deactivations) {
+            bulkOperations.updateOne(
+                atVersion(activeByBusinessId(command.businessId()), command.expectedVersion()),
+                deactivate(command.businessId()));
+        }
+
+        BulkWriteResult result;
+        Set<Integer> rejectedInserts = new HashSet<>();
+        try {
+            result = bulkOperations.execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCategory() != ErrorCategory.DUPLICATE_KEY || error.getIndex() >= inserts.size()) {
+                    throw e;
+                }
+                rejectedInserts.add(error.getIndex());
+            }
+            result = e.getResult();
+        }
+
+        // Each update matches at most one aggregate, so a full count means every update was applied
+        if (result.getMatchedCount() == updates.size() + deactivations.size()) {
+            return new SampleAggregateBulkWriteResult(rejectedInserts, Map.of(), Map.of());
+        }
+
+        Map<String, Document> current = findStatesByBusinessId(updates, deactivations);
+        Map<Integer, BatchOperationOutcome> unmatchedUpdates = new HashMap<>();
+        for (int i = 0; i < updates.size(); i++) {
+            int position = i;
+            UpdateSampleAggregateCommand command = updates.get(i);
+            unmatched(current.get(command.businessId()), command.expectedVersion(), null)
+                .ifPresent(outcome -> unmatchedUpdates.put(position, outcome));
+        }
+        Map<Integer, BatchOperationOutcome> unmatchedDeactivations = new HashMap<>();
+        for (int i = 0; i < deactivations.size(); i++) {
+            int position = i;
+            DeactivateSampleAggregateCommand command = deactivations.get(i);
+            unmatched(current.get(command.businessId()), command.expectedVersion(), SampleAggregateStatus.INACTIVE)
+                .ifPresent(outcome -> unmatchedDeactivations.put(position, outcome));
+        }
+        return new SampleAggregateBulkWriteResult(rejectedInserts, unmatchedUpdates, unmatchedDeactivations);
+    }
+
+    /**
+     * Reads the status and version of the aggregates a bulk write updated or
+     * deactivated, in one query, to classify the items that matched nothing.
+     */
+    private Map<String, Document> findStatesByBusinessId(
+            List<UpdateSampleAggregateCommand> updates, List<DeactivateSampleAggregateCommand> deactivations) {
+        Set<String> businessIds = new HashSet<>();
+        updates.forEach(command -> businessIds.add(command.businessId()));
+        deactivations.forEach(command -> businessIds.add(command.businessId()));
+
+        Query query = Query.query(Criteria.where("business_id").in(businessIds));
+        query.fields().include("business_id", "status", "version");
+        Map<String, Document> states = new HashMap<>();
+        mongoTemplate.find(query, Document.class, collectionName())
+            .forEach(aggregate -> states.put(aggregate.getString("business_id"), aggregate));
+        return states;
+    }
+
+    /**
+     * Classifies an item of a bulk write by the current state of its aggregate.
+     * A missing aggregate is not found. Otherwise the item counts as applied when
+     * the aggregate is in the state it asked for: at the version following the
+     * expected one, and with the requested status. Which writer brought it there
+     * is not told apart.
+     */
+    private static Optional<BatchOperationOutcome> unmatched(
+            Document aggregate, Long expectedVersion, SampleAggregateStatus status) {
+        if (aggregate == null) {
+            return Optional.of(BatchOperationOutcome.NOT_FOUND);
+        }
+        // Documents written before versioning have no version field and count as version 0
+        Number version = aggregate.get("version", Number.class);
+        boolean atNextVersion = expectedVersion == null
+            || (version != null ? version.longValue() : 0L) == expectedVersion + 1;
+        boolean inStatus = status == null || status.name().equals(aggregate.getString("status"));
+        return atNextVersion && inStatus ? Optional.empty() : Optional.of(BatchOperationOutcome.CONFLICT);
+    }
+
+    @Override
+    public List<SampleAggregateSummary> findAfter(LocalDateTime afterCreatedAt, String afterId, int limit) {
+        Query query = new Query();
+        if (afterId != null) {
+            query.addCriteria(new Criteria().orOperator(
+                Criteria.where("createdAt").gt(afterCreatedAt),
+                Criteria.where("createdAt").is(afterCreatedAt).and("id").gt(afterId)));
+        }
+        query.with(Sort.by(Sort.Direction.ASC, "createdAt", "id")).limit(limit);
+
+        return mongoTemplate.query(SampleAggregateRoot.class)
+            .as(SampleAggregateSummary.class)
+            .matching(query)
+            .all();
+    }
+
+    private static Query byBusinessId(String businessId) {
+        return Query.query(Criteria.where("businessId").is(businessId));
+    }
+
+    private static Query activeByBusinessId(String businessId) {
+        // The status filter keeps the "already inactive" invariant on the server side
+        return Query.query(Criteria.where("businessId").is(businessId).and("status").ne(SampleAggregateStatus.INACTIVE));
+    }
+
+    private static Query atVersion(Query query, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return query;
+        }
+        // Documents written before versioning have no version field and count as version 0
+        return expectedVersion == 0
+            ? query.addCriteria(Criteria.where("version").in(0L, null))
+            : query.addCriteria(Criteria.where("version").is(expectedVersion));
+    }
+
+    private static Update updateDetails(String businessId, String name, String description) {
+        return updateDetails(name, description,
+            PendingDomainEvent.of(new SampleAggregateUpdatedEvent(businessId, name, description)));
+    }
+
+    private static Update updateDetails(String name, String description, PendingDomainEvent event) {
+        return new Update()
+            .set("name", name)
+            .set("description", description)
+            .set("updatedAt", LocalDateTime.now())
+            .inc("version", 1)
+            .push("pendingEvents", event);
+    }
+
+    private static Update deactivate(String businessId) {
+        return deactivate(PendingDomainEvent.of(new SampleAggregateDeactivatedEvent(businessId)));
+    }
+
+    private static Update deactivate(PendingDomainEvent event) {
+        return new Update()
+            .set("status", SampleAggregateStatus.INACTIVE)
+            .set("updatedAt", LocalDateTime.now())
+            .inc("version", 1)
+            .push("pendingEvents", event);
+    }
+
+    private String collectionName() {
+        return mongoTemplate.getCollectionName(SampleAggregateRoot.class);
+    }
+
+    private static Update changed(Update update, Object event) {
+        return update
+            .set("updatedAt", LocalDateTime.now())
+            .inc("version", 1)
+            .push("pendingEvents", PendingDomainEvent.of(event));
+    }
+
+    private Optional<SampleAggregateRoot> findAndModify(Query query, Update update) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+            query, update, FindAndModifyOptions.options().returnNew(true), SampleAggregateRoot.class));
+    }
+}
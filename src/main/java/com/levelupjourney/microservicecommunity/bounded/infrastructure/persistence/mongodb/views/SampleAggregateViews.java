@@ -0,0 +1,204 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.views;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.views.SampleAggregateView;
+import com.mongodb.ReadPreference;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReplaceOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.unwind;
+
+/**
+ * Storage of the sample aggregate views.
+ *
+ * Views are written to the primary. Reads go through a separate template whose
+ * read preference is set by sample-aggregates.read-model.read-preference, so
+ * view queries can be served by secondaries; a max staleness bounds how far
+ * behind a secondary may be to be selected.
+ *
+ * The lag of the views is the age of the oldest event still waiting in the
+ * outbox of the aggregates, since views are projected when events are
+ * dispatched. It is sampled periodically and published as a gauge.
+ */
+@Component
+public class SampleAggregateViews {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SampleAggregateViews.class);
+    private static final Duration MIN_MAX_STALENESS = Duration.ofSeconds(90);
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoTemplate readMongoTemplate;
+    private final boolean enabled;
+    private volatile Duration lag = Duration.ZERO;
+    private volatile boolean rebuilding;
+
+    public SampleAggregateViews(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${sample-aggregates.read-model.enabled:true}") boolean enabled,
+            @Value("${sample-aggregates.read-model.read-preference:primary}") String readPreference,
+            @Value("${sample-aggregates.read-model.max-staleness:PT90S}") Duration maxStaleness) {
+        this.mongoTemplate = mongoTemplate;
+        this.readMongoTemplate = new MongoTemplate(mongoTemplate.getMongoDatabaseFactory(), mongoTemplate.getConverter());
+        this.readMongoTemplate.setReadPreference(readPreferenceOf(readPreference, maxStaleness));
+        this.enabled = enabled;
+        Gauge.builder("sample.aggregates.read.model.lag", this, views -> views.lag.toMillis() / 1000.0)
+            .description("Age of the oldest aggregate change not yet projected to the views")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Writes the view of an aggregate, unless a view of a newer state is already stored.
+     * Projections of the same aggregate may arrive out of order or more than once;
+     * the stored view only ever moves forward in updated_at.
+     *
+     * @param aggregate the aggregate to project
+     * @return true if the view was written
+     */
+    public boolean project(SampleAggregateRoot aggregate) {
+        SampleAggregateView view = SampleAggregateView.from(aggregate);
+        Query notNewer = Query.query(Criteria.where("businessId").is(view.getBusinessId())
+            .orOperator(
+                Criteria.where("updatedAt").exists(false),
+                Criteria.where("updatedAt").lte(view.getUpdatedAt())));
+        try {
+            mongoTemplate.replace(notNewer, view, ReplaceOptions.replaceOptions().upsert(),
+                mongoTemplate.getCollectionName(SampleAggregateView.class));
+            return true;
+        } catch (DuplicateKeyException e) {
+            // A newer view is stored: the filter did not match it, and the upsert collided with it
+            return false;
+        }
+    }
+
+    /**
+     * Removes the view of an aggregate that no longer exists.
+     *
+     * @param businessId the business identifier
+     */
+    public void remove(String businessId) {
+        mongoTemplate.remove(Query.query(Criteria.where("businessId").is(businessId)), SampleAggregateView.class);
+    }
+
+    /**
+     * Finds the view of an aggregate.
+     *
+     * @param businessId the business identifier
+     * @return Optional containing the view if found
+     */
+    public Optional<SampleAggregateView> findByBusinessId(String businessId) {
+        return Optional.ofNullable(readMongoTemplate.findById(businessId, SampleAggregateView.class));
+    }
+
+    /**
+     * Finds a page of views by status.
+     *
+     * @param status the status to filter by
+     * @param pageable pagination information
+     * @return Page of views with the specified status
+     */
+    public Page<SampleAggregateView> findByStatus(String status, Pageable pageable) {
+        Query query = Query.query(Criteria.where("status").is(status)).with(pageable);
+        List<SampleAggregateView> views = readMongoTemplate.find(query, SampleAggregateView.class);
+        return PageableExecutionUtils.getPage(views, pageable, () -> readMongoTemplate.count(
+            Query.query(Criteria.where("status").is(status)), SampleAggregateView.class));
+    }
+
+    /**
+     * Estimates whether views are missing, e.g. for aggregates written before
+     * views existed, by comparing the estimated sizes of both collections.
+     *
+     * @return true if there are fewer views than aggregates
+     */
+    public boolean hasMissingViews() {
+        return mongoTemplate.estimatedCount(SampleAggregateView.class) < mongoTemplate.estimatedCount(SampleAggregateRoot.class);
+    }
+
+    /**
+     * Projects every aggregate.
+     * While it runs, views may be missing and the lag is reported as unbounded.
+     *
+     * @return the number of views written
+     */
+    public long rebuild() {
+        long written = 0;
+        rebuilding = true;
+        try (Stream<SampleAggregateRoot> aggregates = mongoTemplate.stream(new Query(), SampleAggregateRoot.class)) {
+            for (SampleAggregateRoot aggregate : (Iterable<SampleAggregateRoot>) aggregates::iterator) {
+                if (project(aggregate)) {
+                    written++;
+                }
+            }
+        } finally {
+            rebuilding = false;
+        }
+        return written;
+    }
+
+    /**
+     * Returns the last sampled lag of the views.
+     *
+     * @return the age of the oldest unprojected change, zero if none
+     */
+    public Duration lag() {
+        return rebuilding ? ChronoUnit.FOREVER.getDuration() : lag;
+    }
+
+    @Scheduled(fixedDelayString = "${sample-aggregates.read-model.lag-check-interval:PT1S}")
+    public void sampleLag() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Document oldest = mongoTemplate.aggregate(newAggregation(
+                    match(Criteria.where("pending_events.event_id").exists(true)),
+                    unwind("pending_events"),
+                    group().min("pending_events.occurred_at").as("oldest")),
+                mongoTemplate.getCollectionName(SampleAggregateRoot.class), Document.class).getUniqueMappedResult();
+
+            Date oldestOccurredAt = oldest == null ? null : oldest.getDate("oldest");
+            lag = oldestOccurredAt == null
+                ? Duration.ZERO
+                : Duration.ofMillis(Math.max(0, System.currentTimeMillis() - oldestOccurredAt.getTime()));
+        } catch (DataAccessException e) {
+            LOGGER.warn("Could not sample the read model lag, keeping the last value", e);
+        }
+    }
+
+    private static ReadPreference readPreferenceOf(String name, Duration maxStaleness) {
+        if ("primary".equalsIgnoreCase(name)) {
+            return ReadPreference.primary();
+        }
+        if (maxStaleness.compareTo(MIN_MAX_STALENESS) < 0) {
+            throw new IllegalArgumentException("Read model max staleness must be at least " + MIN_MAX_STALENESS);
+        }
+        return ReadPreference.valueOf(name, List.of(), maxStaleness.toSeconds(), TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,367 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest;
+
+import com.levelupjourney.microservicecommunity.bounded.application.internal.commandservices.SampleAggregateBatchCommandService;
+import com.levelupjourney.microservicecommunity.bounded.application.internal.commandservices.SampleAggregateCommandService;
+import com.levelupjourney.microservicecommunity.bounded.application.internal.commandservices.SampleAggregateUpdateCoalescer;
+import com.levelupjourney.microservicecommunity.bounded.application.internal.queryservices.ReactiveSampleAggregateQueryService;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.BatchSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.CreateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.DeactivateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.SampleAggregateBatchItemCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregateByBusinessIdQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregatesAfterCursorQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.BatchOperationOutcome;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.BatchOperationResult;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.BatchSampleAggregateItemResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.BatchSampleAggregateItemResultResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.BatchSampleAggregateResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.BatchSampleAggregateResultResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.CreateSampleAggregateResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateCursorPageResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.UpdateSampleAggregateResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.BatchSampleAggregateCommandFromResourceAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.BatchSampleAggregateItemResultResourceFromResultAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.CreateSampleAggregateCommandFromResourceAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.EntityTagFromVersionAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.GetSampleAggregatesAfterCursorQueryFromTokenAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.SampleAggregateResourceFromEntityAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.SampleAggregateResourceFromSummaryAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.UpdateSampleAggregateCommandFromResourceAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * REST Controller for Sample Aggregate operations on WebFlux.
+ * Active with the reactive profile, in place of SampleAggregatesController,
+ * and serves the same paths, status codes, resources and assemblers.
+ * 
+ * Reads are non-blocking, on the reactive repositories. Writes go through the
+ * same command services as the Spring MVC deployment, so they keep its
+ * counters, existence filter registration, cache evictions and update
+ * coalescing; those services use the blocking driver, so they run on the
+ * bounded elastic scheduler rather than on the event loop.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping(value = "/api/v1/sample-aggregates", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Sample Aggregates", description = "Operations related to Sample Aggregates")
+public class ReactiveSampleAggregatesController {
+
+    private final SampleAggregateCommandService commandService;
+    private final SampleAggregateBatchCommandService batchCommandService;
+    private final SampleAggregateUpdateCoalescer updateCoalescer;
+    private final ReactiveSampleAggregateQueryService queryService;
+
+    public ReactiveSampleAggregatesController(
+            SampleAggregateCommandService commandService,
+            SampleAggregateBatchCommandService batchCommandService,
+            SampleAggregateUpdateCoalescer updateCoalescer,
+            ReactiveSampleAggregateQueryService queryService) {
+        this.commandService = commandService;
+        this.batchCommandService = batchCommandService;
+        this.updateCoalescer = updateCoalescer;
+        this.queryService = queryService;
+    }
+
+    /**
+     * Creates a new sample aggregate.
+     */
+    @PostMapping
+    @Operation(summary = "Create a new sample aggregate")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Aggregate created successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid request data"),
+        @ApiResponse(responseCode = "409", description = "Aggregate with business ID already exists")
+    })
+    public Mono<ResponseEntity<SampleAggregateResource>> createSampleAggregate(
+            @RequestBody CreateSampleAggregateResource resource) {
+        
+        CreateSampleAggregateCommand command;
+        try {
+            command = CreateSampleAggregateCommandFromResourceAssembler.toCommandFromResource(resource);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        
+        return Mono.fromCallable(() -> commandService.handle(command))
+            .subscribeOn(Schedulers.boundedElastic())
+            .map(aggregate -> ResponseEntity.created(URI.create("/api/v1/sample-aggregates/" + aggregate.getBusinessId()))
+                .eTag(EntityTagFromVersionAssembler.toEntityTagFromVersion(aggregate.getVersion()))
+                .body(SampleAggregateResourceFromEntityAssembler.toResourceFromEntity(aggregate)))
+            .onErrorResume(IllegalStateException.class, e -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build()))
+            .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    /**
+     * Applies a batch of create, update and deactivate operations.
+     * Items are independent and unordered; each one gets its own result.
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Create, update and deactivate sample aggregates in bulk")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    })
+    public Mono<ResponseEntity<BatchSampleAggregateResultResource>> batchSampleAggregates(
+            @RequestBody BatchSampleAggregateResource resource) {
+        
+        List<BatchSampleAggregateItemResource> items = resource.items();
+        if (items == null || items.isEmpty() || items.size() > BatchSampleAggregateCommand.MAX_BATCH_SIZE) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        
+        // Invalid items are answered right away, the valid ones go to the command service
+        BatchOperationResult[] results = new BatchOperationResult[items.size()];
+        List<SampleAggregateBatchItemCommand> commands = new ArrayList<>();
+        List<Integer> commandPositions = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                commands.add(BatchSampleAggregateCommandFromResourceAssembler.toCommandFromResource(items.get(i)));
+                commandPositions.add(i);
+            } catch (IllegalArgumentException e) {
+                String businessId = items.get(i) != null ? items.get(i).businessId() : null;
+                results[i] = new BatchOperationResult(businessId, BatchOperationOutcome.INVALID, e.getMessage());
+            }
+        }
+        
+        Mono<List<BatchOperationResult>> commandResults = commands.isEmpty()
+            ? Mono.just(List.of())
+            : Mono.fromCallable(() -> batchCommandService.handle(new BatchSampleAggregateCommand(commands)))
+                .subscribeOn(Schedulers.boundedElastic());
+        
+        return commandResults.map(written -> {
+            for (int i = 0; i < written.size(); i++) {
+                results[commandPositions.get(i)] = written.get(i);
+            }
+            List<BatchSampleAggregateItemResultResource> resultResources = new ArrayList<>(results.length);
+            for (int i = 0; i < results.length; i++) {
+                resultResources.add(
+                    BatchSampleAggregateItemResultResourceFromResultAssembler.toResourceFromResult(i, results[i]));
+            }
+            return ResponseEntity.ok(new BatchSampleAggregateResultResource(resultResources));
+        });
+    }
+
+    /**
+     * Retrieves a sample aggregate by business ID.
+     */
+    @GetMapping("/{businessId}")
+    @Operation(summary = "Get sample aggregate by business ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Aggregate found"),
+        @ApiResponse(responseCode = "404", description = "Aggregate not found")
+    })
+    public Mono<ResponseEntity<SampleAggregateResource>> getSampleAggregateByBusinessId(
+            @Parameter(description = "Business ID of the aggregate")
+            @PathVariable String businessId) {
+        
+        GetSampleAggregateByBusinessIdQuery query = new GetSampleAggregateByBusinessIdQuery(businessId);
+        
+        return queryService.handle(query)
+            .map(SampleAggregateResourceFromSummaryAssembler::toResourceFromSummary)
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Retrieves all active sample aggregates, as a JSON array or as newline-delimited JSON.
+     * Either way aggregates are encoded as they arrive and read from the cursor
+     * only as fast as the client consumes them.
+     */
+    @GetMapping(value = "/active", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Get all active sample aggregates")
+    @ApiResponse(responseCode = "200", description = "Active aggregates retrieved")
+    public Flux<SampleAggregateResource> getActiveSampleAggregates() {
+        
+        return queryService.getAllActiveAggregates()
+            .map(SampleAggregateResourceFromSummaryAssembler::toResourceFromSummary);
+    }
+
+    /**
+     * Retrieves sample aggregates with pagination.
+     */
+    @GetMapping
+    @Operation(summary = "Get sample aggregates with pagination")
+    @ApiResponse(responseCode = "200", description = "Aggregates retrieved")
+    public Mono<Page<SampleAggregateResource>> getSampleAggregates(
+            @Parameter(description = "Pagination information") Pageable pageable) {
+        
+        return queryService.getAllAggregates(pageable)
+            .map(page -> page.map(SampleAggregateResourceFromSummaryAssembler::toResourceFromSummary));
+    }
+
+    /**
+     * Retrieves sample aggregates with a given status, with pagination.
+     * Sorted by creation time (newest first) unless another sort is requested.
+     */
+    @GetMapping("/status/{status}")
+    @Operation(summary = "Get sample aggregates by status with pagination")
+    @ApiResponse(responseCode = "200", description = "Aggregates retrieved")
+    public Mono<Page<SampleAggregateResource>> getSampleAggregatesByStatus(
+            @Parameter(description = "Status of the aggregates")
+            @PathVariable String status,
+            @Parameter(description = "Pagination information")
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        
+        return queryService.getAggregatesByStatus(status, pageable)
+            .map(page -> page.map(SampleAggregateResourceFromSummaryAssembler::toResourceFromSummary));
+    }
+
+    /**
+     * Retrieves sample aggregates with keyset (continuation token) pagination.
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Get sample aggregates with continuation token pagination")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Aggregates retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid continuation token or page size")
+    })
+    public Mono<ResponseEntity<SampleAggregateCursorPageResource>> scrollSampleAggregates(
+            @Parameter(description = "Continuation token from the previous page, omitted for the first page")
+            @RequestParam(required = false) String token,
+            @Parameter(description = "Number of aggregates per page")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Whether to include the total number of aggregates")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        GetSampleAggregatesAfterCursorQuery query;
+        try {
+            query = GetSampleAggregatesAfterCursorQueryFromTokenAssembler.toQueryFromToken(token, size);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        
+        Mono<Optional<Long>> totalElements = includeTotal
+            ? queryService.getTotalCount().map(Optional::of)
+            : Mono.just(Optional.empty());
+        
+        return Mono.zip(queryService.handle(query), totalElements)
+            .map(tuple -> {
+                var aggregatesSlice = tuple.getT1();
+                var resources = aggregatesSlice.getContent().stream()
+                    .map(SampleAggregateResourceFromSummaryAssembler::toResourceFromSummary)
+                    .toList();
+                String nextToken = aggregatesSlice.hasNext()
+                    ? GetSampleAggregatesAfterCursorQueryFromTokenAssembler.toTokenFromSummary(
+                        aggregatesSlice.getContent().getLast())
+                    : null;
+                return ResponseEntity.ok(new SampleAggregateCursorPageResource(
+                    resources, nextToken, aggregatesSlice.hasNext(), tuple.getT2().orElse(null)));
+            });
+    }
+
+    /**
+     * Updates an existing sample aggregate.
+     * Goes through the update coalescer, so with write coalescing enabled the
+     * response is sent once the write carrying this update has completed.
+     */
+    @PutMapping("/{businessId}")
+    @Operation(summary = "Update sample aggregate")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Aggregate updated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid request data or If-Match header"),
+        @ApiResponse(responseCode = "404", description = "Aggregate not found"),
+        @ApiResponse(responseCode = "412", description = "Aggregate was modified since the If-Match version")
+    })
+    public Mono<ResponseEntity<SampleAggregateResource>> updateSampleAggregate(
+            @Parameter(description = "Business ID of the aggregate")
+            @PathVariable String businessId,
+            @Parameter(description = "ETag of the aggregate version the update applies to")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateSampleAggregateResource resource) {
+        
+        UpdateSampleAggregateCommand command;
+        try {
+            command = UpdateSampleAggregateCommandFromResourceAssembler.toCommandFromResource(
+                businessId, resource, EntityTagFromVersionAssembler.toVersionFromIfMatch(ifMatch));
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        
+        // Without coalescing the write runs on the submitting thread, which must not be the event loop
+        return Mono.defer(() -> Mono.fromFuture(updateCoalescer.submit(command)))
+            .subscribeOn(Schedulers.boundedElastic())
+            .map(optionalAggregate -> optionalAggregate
+                .map(aggregate -> ResponseEntity.ok()
+                    .eTag(EntityTagFromVersionAssembler.toEntityTagFromVersion(aggregate.getVersion()))
+                    .body(SampleAggregateResourceFromEntityAssembler.toResourceFromEntity(aggregate)))
+                .orElse(ResponseEntity.notFound().build()))
+            .onErrorResume(OptimisticLockingFailureException.class,
+                e -> Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build()));
+    }
+
+    /**
+     * Deactivates a sample aggregate.
+     */
+    @DeleteMapping("/{businessId}")
+    @Operation(summary = "Deactivate sample aggregate")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Aggregate deactivated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid If-Match header"),
+        @ApiResponse(responseCode = "404", description = "Aggregate not found"),
+        @ApiResponse(responseCode = "409", description = "Aggregate is already inactive"),
+        @ApiResponse(responseCode = "412", description = "Aggregate was modified since the If-Match version")
+    })
+    public Mono<ResponseEntity<Void>> deactivateSampleAggregate(
+            @Parameter(description = "Business ID of the aggregate")
+            @PathVariable String businessId,
+            @Parameter(description = "ETag of the aggregate version the deactivation applies to")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        
+        Long expectedVersion;
+        try {
+            expectedVersion = EntityTagFromVersionAssembler.toVersionFromIfMatch(ifMatch);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        
+        return Mono.fromCallable(() -> commandService.handle(new DeactivateSampleAggregateCommand(businessId, expectedVersion)))
+            .subscribeOn(Schedulers.boundedElastic())
+            .map(optionalAggregate -> optionalAggregate
+                .map(aggregate -> ResponseEntity.noContent()
+                    .eTag(EntityTagFromVersionAssembler.toEntityTagFromVersion(aggregate.getVersion()))
+                    .<Void>build())
+                .orElse(ResponseEntity.notFound().build()))
+            .onErrorResume(OptimisticLockingFailureException.class,
+                e -> Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build()))
+            .onErrorResume(IllegalStateException.class, e -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build()))
+            .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.notFound().build()));
+    }
+
+    /**
+     * Checks if an aggregate exists.
+     */
+    @GetMapping("/{businessId}/exists")
+    @Operation(summary = "Check if aggregate exists")
+    @ApiResponse(responseCode = "200", description = "Existence check completed")
+    public Mono<ResponseEntity<Boolean>> checkAggregateExists(
+            @Parameter(description = "Business ID of the aggregate")
+            @PathVariable String businessId) {
+        
+        return queryService.existsByBusinessId(businessId).map(ResponseEntity::ok);
+    }
+}
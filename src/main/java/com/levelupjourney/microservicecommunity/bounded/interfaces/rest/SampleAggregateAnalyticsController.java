@@ -0,0 +1,156 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest;
+
+import com.levelupjourney.microservicecommunity.bounded.application.internal.queryservices.SampleAggregateAnalyticsQueryService;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregateAnalyticsQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregateTimeBucketsQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleEntityValueTotalsQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.TimeBucketGranularity;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateCategoryCountResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateStatusCountResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateTimeBucketCountResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleEntityValueTotalsResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.SampleAggregateAnalyticsResourceFromProjectionAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST Controller for Sample Aggregate analytics.
+ * Serves small, pre-aggregated results for dashboards over a creation time range
+ * (start inclusive, end exclusive), instead of the documents themselves.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping(value = "/api/v1/sample-aggregate-analytics", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Sample Aggregate Analytics", description = "Statistics over Sample Aggregates")
+public class SampleAggregateAnalyticsController {
+
+    private final SampleAggregateAnalyticsQueryService analyticsQueryService;
+
+    public SampleAggregateAnalyticsController(SampleAggregateAnalyticsQueryService analyticsQueryService) {
+        this.analyticsQueryService = analyticsQueryService;
+    }
+
+    /**
+     * Counts aggregates per status.
+     */
+    @GetMapping("/status-counts")
+    @Operation(summary = "Count sample aggregates per status")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Counts retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid time range")
+    })
+    public ResponseEntity<List<SampleAggregateStatusCountResource>> getStatusCounts(
+            @Parameter(description = "Start of the creation time range (inclusive)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the creation time range (exclusive)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        try {
+            GetSampleAggregateAnalyticsQuery query = new GetSampleAggregateAnalyticsQuery(from, to);
+            List<SampleAggregateStatusCountResource> resources = analyticsQueryService.getStatusCounts(query).stream()
+                .map(SampleAggregateAnalyticsResourceFromProjectionAssembler::toResourceFromStatusCount)
+                .toList();
+            return ResponseEntity.ok(resources);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Counts aggregates per creation time bucket.
+     */
+    @GetMapping("/time-buckets")
+    @Operation(summary = "Count sample aggregates per creation hour or day")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Counts retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid time range or too many buckets")
+    })
+    public ResponseEntity<List<SampleAggregateTimeBucketCountResource>> getTimeBucketCounts(
+            @Parameter(description = "Start of the creation time range (inclusive)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the creation time range (exclusive)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Bucket width: HOUR or DAY")
+            @RequestParam(defaultValue = "DAY") TimeBucketGranularity granularity) {
+
+        try {
+            GetSampleAggregateTimeBucketsQuery query = new GetSampleAggregateTimeBucketsQuery(from, to, granularity);
+            List<SampleAggregateTimeBucketCountResource> resources = analyticsQueryService.handle(query).stream()
+                .map(SampleAggregateAnalyticsResourceFromProjectionAssembler::toResourceFromTimeBucketCount)
+                .toList();
+            return ResponseEntity.ok(resources);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Counts aggregates per value object category and priority.
+     */
+    @GetMapping("/category-counts")
+    @Operation(summary = "Count sample aggregates per value object category and priority")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Counts retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid time range")
+    })
+    public ResponseEntity<List<SampleAggregateCategoryCountResource>> getCategoryCounts(
+            @Parameter(description = "Start of the creation time range (inclusive)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the creation time range (exclusive)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        try {
+            GetSampleAggregateAnalyticsQuery query = new GetSampleAggregateAnalyticsQuery(from, to);
+            List<SampleAggregateCategoryCountResource> resources = analyticsQueryService.getCategoryCounts(query).stream()
+                .map(SampleAggregateAnalyticsResourceFromProjectionAssembler::toResourceFromCategoryCount)
+                .toList();
+            return ResponseEntity.ok(resources);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Sums the values of the embedded entities.
+     */
+    @GetMapping("/entity-values")
+    @Operation(summary = "Sum the values of the entities embedded in sample aggregates")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Totals retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid time range or multiplier")
+    })
+    public ResponseEntity<SampleEntityValueTotalsResource> getEntityValueTotals(
+            @Parameter(description = "Start of the creation time range (inclusive)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the creation time range (exclusive)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Multiplier of the business value calculation")
+            @RequestParam(defaultValue = "1.0") double multiplier) {
+
+        try {
+            GetSampleEntityValueTotalsQuery query = new GetSampleEntityValueTotalsQuery(from, to, multiplier);
+            return ResponseEntity.ok(SampleAggregateAnalyticsResourceFromProjectionAssembler
+                .toResourceFromEntityValueTotals(analyticsQueryService.handle(query)));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
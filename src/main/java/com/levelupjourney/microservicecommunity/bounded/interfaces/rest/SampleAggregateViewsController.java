@@ -0,0 +1,83 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest;
+
+import com.levelupjourney.microservicecommunity.bounded.application.internal.queryservices.SampleAggregateViewQueryService;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregateByBusinessIdQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.views.SampleAggregateView;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateViewResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.SampleAggregateViewResourceFromViewAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+/**
+ * REST Controller for Sample Aggregate views.
+ * Serves the denormalized read model, which is maintained asynchronously
+ * and may lag the aggregates by a bounded amount of time.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping(value = "/api/v1/sample-aggregate-views", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Sample Aggregate Views", description = "Read model of Sample Aggregates")
+public class SampleAggregateViewsController {
+
+    private final SampleAggregateViewQueryService viewQueryService;
+
+    public SampleAggregateViewsController(SampleAggregateViewQueryService viewQueryService) {
+        this.viewQueryService = viewQueryService;
+    }
+
+    /**
+     * Retrieves the view of a sample aggregate by business ID.
+     */
+    @GetMapping("/{businessId}")
+    @Operation(summary = "Get the view of a sample aggregate by business ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "View found"),
+        @ApiResponse(responseCode = "404", description = "View not found")
+    })
+    public ResponseEntity<SampleAggregateViewResource> getSampleAggregateViewByBusinessId(
+            @Parameter(description = "Business ID of the aggregate")
+            @PathVariable String businessId) {
+
+        GetSampleAggregateByBusinessIdQuery query = new GetSampleAggregateByBusinessIdQuery(businessId);
+        Optional<SampleAggregateView> optionalView = viewQueryService.handle(query);
+
+        return optionalView
+            .map(view -> ResponseEntity.ok(SampleAggregateViewResourceFromViewAssembler.toResourceFromView(view)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Retrieves views of sample aggregates with a given status, with pagination.
+     * Sorted by creation time (newest first) unless another sort is requested.
+     */
+    @GetMapping("/status/{status}")
+    @Operation(summary = "Get views of sample aggregates by status with pagination")
+    @ApiResponse(responseCode = "200", description = "Views retrieved")
+    public ResponseEntity<Page<SampleAggregateViewResource>> getSampleAggregateViewsByStatus(
+            @Parameter(description = "Status of the aggregates")
+            @PathVariable String status,
+            @Parameter(description = "Pagination information")
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+
+        Page<SampleAggregateViewResource> resourcesPage = viewQueryService.getViewsByStatus(status, pageable)
+            .map(SampleAggregateViewResourceFromViewAssembler::toResourceFromView);
+
+        return ResponseEntity.ok(resourcesPage);
+    }
+}
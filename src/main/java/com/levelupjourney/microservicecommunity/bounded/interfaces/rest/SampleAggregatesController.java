@@ -1,30 +1,68 @@
 package com.levelupjourney.microservicecommunity.bounded.interfaces.rest;
 
+import com.levelupjourney.microservicecommunity.bounded.application.internal.commandservices.SampleAggregateBatchCommandService;
 import com.levelupjourney.microservicecommunity.bounded.application.internal.commandservices.SampleAggregateCommandService;
+import com.levelupjourney.microservicecommunity.bounded.application.internal.commandservices.SampleAggregateUpdateCoalescer;
 import com.levelupjourney.microservicecommunity.bounded.application.internal.queryservices.SampleAggregateQueryService;
 import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.BatchSampleAggregateCommand;
 import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.CreateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.DeactivateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.SampleAggregateBatchItemCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleAggregateCommand;
 import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregateByBusinessIdQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregatesAfterCursorQuery;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.BatchOperationOutcome;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.BatchOperationResult;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.BatchSampleAggregateItemResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.BatchSampleAggregateItemResultResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.BatchSampleAggregateResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.BatchSampleAggregateResultResource;
 import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.CreateSampleAggregateResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateCursorPageResource;
 import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateResource;
 import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.UpdateSampleAggregateResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.BatchSampleAggregateCommandFromResourceAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.BatchSampleAggregateItemResultResourceFromResultAssembler;
 import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.CreateSampleAggregateCommandFromResourceAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.EntityTagFromVersionAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.GetSampleAggregatesAfterCursorQueryFromTokenAssembler;
 import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.SampleAggregateResourceFromEntityAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.SampleAggregateResourceFromSummaryAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.UpdateSampleAggregateCommandFromResourceAssembler;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 /**
  * REST Controller for Sample Aggregate operations.
@@ -36,20 +74,39 @@ import java.util.Optional;
  * - Resource transformation
  * - Proper HTTP status codes
  * - API documentation
+ * - Optimistic concurrency: single-aggregate responses carry the aggregate
+ *   version as ETag, and PUT/DELETE accept it in If-Match
+ * 
+ * Replaced by ReactiveSampleAggregatesController when the reactive profile is active.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping(value = "/api/v1/sample-aggregates", produces = MediaType.APPLICATION_JSON_VALUE)
 @Tag(name = "Sample Aggregates", description = "Operations related to Sample Aggregates")
 public class SampleAggregatesController {
 
+    /**
+     * Number of streamed aggregates after which the response is flushed to the client.
+     */
+    private static final int STREAM_FLUSH_INTERVAL = 500;
+
     private final SampleAggregateCommandService commandService;
+    private final SampleAggregateBatchCommandService batchCommandService;
+    private final SampleAggregateUpdateCoalescer updateCoalescer;
     private final SampleAggregateQueryService queryService;
+    private final ObjectMapper objectMapper;
 
     public SampleAggregatesController(
             SampleAggregateCommandService commandService,
-            SampleAggregateQueryService queryService) {
+            SampleAggregateBatchCommandService batchCommandService,
+            SampleAggregateUpdateCoalescer updateCoalescer,
+            SampleAggregateQueryService queryService,
+            ObjectMapper objectMapper) {
         this.commandService = commandService;
+        this.batchCommandService = batchCommandService;
+        this.updateCoalescer = updateCoalescer;
         this.queryService = queryService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -70,28 +127,72 @@ public class SampleAggregatesController {
             CreateSampleAggregateCommand command = 
                 CreateSampleAggregateCommandFromResourceAssembler.toCommandFromResource(resource);
             
-            // Execute command
-            String aggregateId = commandService.handle(command);
-            
-            // Retrieve created aggregate for response
-            Optional<SampleAggregateRoot> optionalAggregate = 
-                queryService.handle(new GetSampleAggregateByBusinessIdQuery(resource.businessId()));
+            // Execute command - the persisted aggregate is returned, no re-read needed
+            SampleAggregateRoot aggregate = commandService.handle(command);
             
-            if (optionalAggregate.isPresent()) {
-                SampleAggregateResource responseResource = 
-                    SampleAggregateResourceFromEntityAssembler.toResourceFromEntity(optionalAggregate.get());
-                
-                return ResponseEntity.created(URI.create("/api/v1/sample-aggregates/" + aggregateId))
-                                   .body(responseResource);
-            }
+            SampleAggregateResource responseResource = 
+                SampleAggregateResourceFromEntityAssembler.toResourceFromEntity(aggregate);
             
-            return ResponseEntity.status(HttpStatus.CREATED).build();
+            return ResponseEntity.created(URI.create("/api/v1/sample-aggregates/" + aggregate.getBusinessId()))
+                               .eTag(EntityTagFromVersionAssembler.toEntityTagFromVersion(aggregate.getVersion()))
+                               .body(responseResource);
             
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /**
+     * Applies a batch of create, update and deactivate operations.
+     * Items are independent and unordered; each one gets its own result.
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Create, update and deactivate sample aggregates in bulk")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    })
+    public ResponseEntity<BatchSampleAggregateResultResource> batchSampleAggregates(
+            @RequestBody BatchSampleAggregateResource resource) {
+        
+        List<BatchSampleAggregateItemResource> items = resource.items();
+        if (items == null || items.isEmpty() || items.size() > BatchSampleAggregateCommand.MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        // Invalid items are answered right away, the valid ones go to the command service
+        BatchOperationResult[] results = new BatchOperationResult[items.size()];
+        List<SampleAggregateBatchItemCommand> commands = new ArrayList<>();
+        List<Integer> commandPositions = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                commands.add(BatchSampleAggregateCommandFromResourceAssembler.toCommandFromResource(items.get(i)));
+                commandPositions.add(i);
+            } catch (IllegalArgumentException e) {
+                String businessId = items.get(i) != null ? items.get(i).businessId() : null;
+                results[i] = new BatchOperationResult(businessId, BatchOperationOutcome.INVALID, e.getMessage());
+            }
+        }
+        
+        if (!commands.isEmpty()) {
+            List<BatchOperationResult> commandResults =
+                batchCommandService.handle(new BatchSampleAggregateCommand(commands));
+            for (int i = 0; i < commandResults.size(); i++) {
+                results[commandPositions.get(i)] = commandResults.get(i);
+            }
+        }
+        
+        List<BatchSampleAggregateItemResultResource> resultResources = new ArrayList<>(results.length);
+        for (int i = 0; i < results.length; i++) {
+            resultResources.add(
+                BatchSampleAggregateItemResultResourceFromResultAssembler.toResourceFromResult(i, results[i]));
+        }
+        
+        return ResponseEntity.ok(new BatchSampleAggregateResultResource(resultResources));
+    }
+
     /**
      * Retrieves a sample aggregate by business ID.
      */
@@ -106,13 +207,15 @@ public class SampleAggregatesController {
             @PathVariable String businessId) {
         
         GetSampleAggregateByBusinessIdQuery query = new GetSampleAggregateByBusinessIdQuery(businessId);
-        Optional<SampleAggregateRoot> optionalAggregate = queryService.handle(query);
+        Optional<SampleAggregateSummary> optionalAggregate = queryService.handle(query);
         
         return optionalAggregate
             .map(aggregate -> {
                 SampleAggregateResource resource = 
-                    SampleAggregateResourceFromEntityAssembler.toResourceFromEntity(aggregate);
-                return ResponseEntity.ok(resource);
+                    SampleAggregateResourceFromSummaryAssembler.toResourceFromSummary(aggregate);
+                return ResponseEntity.ok()
+                    .eTag(EntityTagFromVersionAssembler.toEntityTagFromVersion(aggregate.version()))
+                    .body(resource);
             })
             .orElse(ResponseEntity.notFound().build());
     }
@@ -125,14 +228,48 @@ public class SampleAggregatesController {
     @ApiResponse(responseCode = "200", description = "Active aggregates retrieved")
     public ResponseEntity<List<SampleAggregateResource>> getActiveSampleAggregates() {
         
-        List<SampleAggregateRoot> aggregates = queryService.getAllActiveAggregates();
+        List<SampleAggregateSummary> aggregates = queryService.getAllActiveAggregates();
         List<SampleAggregateResource> resources = aggregates.stream()
-            .map(SampleAggregateResourceFromEntityAssembler::toResourceFromEntity)
+            .map(SampleAggregateResourceFromSummaryAssembler::toResourceFromSummary)
             .toList();
         
         return ResponseEntity.ok(resources);
     }
 
+    /**
+     * Streams all active sample aggregates as newline-delimited JSON.
+     * Documents are read from a cursor and written as they arrive, so memory
+     * stays flat regardless of how many aggregates are active; a slow client
+     * slows down the cursor instead of filling the heap.
+     */
+    @GetMapping(value = "/active", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all active sample aggregates as NDJSON")
+    @ApiResponse(responseCode = "200", description = "Active aggregates streamed")
+    public ResponseEntity<StreamingResponseBody> streamActiveSampleAggregates() {
+        
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<SampleAggregateSummary> aggregates = queryService.streamAllActiveAggregates();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+                generator.setRootValueSeparator(null);
+                ObjectWriter writer = objectMapper.writerFor(SampleAggregateResource.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+                
+                int written = 0;
+                Iterator<SampleAggregateSummary> iterator = aggregates.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeValue(generator, SampleAggregateResourceFromSummaryAssembler.toResourceFromSummary(iterator.next()));
+                    generator.writeRaw('\n');
+                    if (++written % STREAM_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+            }
+        };
+        
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * Retrieves sample aggregates with pagination.
      */
@@ -142,47 +279,137 @@ public class SampleAggregatesController {
     public ResponseEntity<Page<SampleAggregateResource>> getSampleAggregates(
             @Parameter(description = "Pagination information") Pageable pageable) {
         
-        Page<SampleAggregateRoot> aggregatesPage = queryService.getAllAggregates(pageable);
+        Page<SampleAggregateSummary> aggregatesPage = queryService.getAllAggregates(pageable);
         Page<SampleAggregateResource> resourcesPage = aggregatesPage
-            .map(SampleAggregateResourceFromEntityAssembler::toResourceFromEntity);
+            .map(SampleAggregateResourceFromSummaryAssembler::toResourceFromSummary);
         
         return ResponseEntity.ok(resourcesPage);
     }
 
+    /**
+     * Retrieves sample aggregates with a given status, with pagination.
+     * Sorted by creation time (newest first) unless another sort is requested.
+     */
+    @GetMapping("/status/{status}")
+    @Operation(summary = "Get sample aggregates by status with pagination")
+    @ApiResponse(responseCode = "200", description = "Aggregates retrieved")
+    public ResponseEntity<Page<SampleAggregateResource>> getSampleAggregatesByStatus(
+            @Parameter(description = "Status of the aggregates")
+            @PathVariable String status,
+            @Parameter(description = "Pagination information")
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        
+        Page<SampleAggregateSummary> aggregatesPage = queryService.getAggregatesByStatus(status, pageable);
+        Page<SampleAggregateResource> resourcesPage = aggregatesPage
+            .map(SampleAggregateResourceFromSummaryAssembler::toResourceFromSummary);
+        
+        return ResponseEntity.ok(resourcesPage);
+    }
+
+    /**
+     * Retrieves sample aggregates with keyset (continuation token) pagination.
+     * Unlike offset pagination, the cost of a page does not grow with its depth,
+     * and the total count is only computed when asked for.
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Get sample aggregates with continuation token pagination")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Aggregates retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid continuation token or page size")
+    })
+    public ResponseEntity<SampleAggregateCursorPageResource> scrollSampleAggregates(
+            @Parameter(description = "Continuation token from the previous page, omitted for the first page")
+            @RequestParam(required = false) String token,
+            @Parameter(description = "Number of aggregates per page")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Whether to include the total number of aggregates")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        try {
+            GetSampleAggregatesAfterCursorQuery query =
+                GetSampleAggregatesAfterCursorQueryFromTokenAssembler.toQueryFromToken(token, size);
+            
+            Slice<SampleAggregateSummary> aggregatesSlice = queryService.handle(query);
+            List<SampleAggregateResource> resources = aggregatesSlice.getContent().stream()
+                .map(SampleAggregateResourceFromSummaryAssembler::toResourceFromSummary)
+                .toList();
+            
+            String nextToken = aggregatesSlice.hasNext()
+                ? GetSampleAggregatesAfterCursorQueryFromTokenAssembler.toTokenFromSummary(
+                    aggregatesSlice.getContent().getLast())
+                : null;
+            Long totalElements = includeTotal ? queryService.getTotalCount() : null;
+            
+            return ResponseEntity.ok(new SampleAggregateCursorPageResource(
+                resources, nextToken, aggregatesSlice.hasNext(), totalElements));
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Updates an existing sample aggregate.
+     * Updates the coalescer merges are answered asynchronously, once the write
+     * carrying them has completed; all others are written on the request thread
+     * and answered directly, without an async dispatch.
+     *
+     * @return the response, or a future of it for coalesced updates
      */
     @PutMapping("/{businessId}")
     @Operation(summary = "Update sample aggregate")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Aggregate updated successfully"),
-        @ApiResponse(responseCode = "400", description = "Invalid request data"),
-        @ApiResponse(responseCode = "404", description = "Aggregate not found")
+        @ApiResponse(responseCode = "200", description = "Aggregate updated successfully",
+            content = @Content(schema = @Schema(implementation = SampleAggregateResource.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid request data or If-Match header"),
+        @ApiResponse(responseCode = "404", description = "Aggregate not found"),
+        @ApiResponse(responseCode = "412", description = "Aggregate was modified since the If-Match version")
     })
-    public ResponseEntity<SampleAggregateResource> updateSampleAggregate(
+    public Object updateSampleAggregate(
             @Parameter(description = "Business ID of the aggregate")
             @PathVariable String businessId,
+            @Parameter(description = "ETag of the aggregate version the update applies to")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody UpdateSampleAggregateResource resource) {
         
+        UpdateSampleAggregateCommand command;
         try {
-            // Execute update command
-            commandService.updateAggregate(businessId, resource.name(), resource.description());
-            
-            // Retrieve updated aggregate for response
-            Optional<SampleAggregateRoot> optionalAggregate = 
-                queryService.handle(new GetSampleAggregateByBusinessIdQuery(businessId));
-            
-            return optionalAggregate
-                .map(aggregate -> {
-                    SampleAggregateResource responseResource = 
-                        SampleAggregateResourceFromEntityAssembler.toResourceFromEntity(aggregate);
-                    return ResponseEntity.ok(responseResource);
-                })
-                .orElse(ResponseEntity.notFound().build());
-                
+            // Transform resource to command
+            command = UpdateSampleAggregateCommandFromResourceAssembler.toCommandFromResource(
+                businessId, resource, EntityTagFromVersionAssembler.toVersionFromIfMatch(ifMatch));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
+        
+        // Execute update command - the updated aggregate is returned, no re-read needed
+        if (!updateCoalescer.coalesces(command)) {
+            try {
+                return toUpdateResponse(commandService.handle(command));
+            } catch (OptimisticLockingFailureException e) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+        }
+        return updateCoalescer.submit(command)
+            .thenApply(SampleAggregatesController::toUpdateResponse)
+            .exceptionally(failure -> {
+                Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                if (cause instanceof OptimisticLockingFailureException) {
+                    return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+                }
+                throw failure instanceof CompletionException completion ? completion : new CompletionException(cause);
+            });
+    }
+
+    private static ResponseEntity<SampleAggregateResource> toUpdateResponse(Optional<SampleAggregateRoot> optionalAggregate) {
+        return optionalAggregate
+            .map(aggregate -> {
+                SampleAggregateResource responseResource = 
+                    SampleAggregateResourceFromEntityAssembler.toResourceFromEntity(aggregate);
+                return ResponseEntity.ok()
+                    .eTag(EntityTagFromVersionAssembler.toEntityTagFromVersion(aggregate.getVersion()))
+                    .body(responseResource);
+            })
+            .orElse(ResponseEntity.notFound().build());
     }
 
     /**
@@ -192,15 +419,37 @@ public class SampleAggregatesController {
     @Operation(summary = "Deactivate sample aggregate")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Aggregate deactivated successfully"),
-        @ApiResponse(responseCode = "404", description = "Aggregate not found")
+        @ApiResponse(responseCode = "400", description = "Invalid If-Match header"),
+        @ApiResponse(responseCode = "404", description = "Aggregate not found"),
+        @ApiResponse(responseCode = "409", description = "Aggregate is already inactive"),
+        @ApiResponse(responseCode = "412", description = "Aggregate was modified since the If-Match version")
     })
     public ResponseEntity<Void> deactivateSampleAggregate(
             @Parameter(description = "Business ID of the aggregate")
-            @PathVariable String businessId) {
+            @PathVariable String businessId,
+            @Parameter(description = "ETag of the aggregate version the deactivation applies to")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
+        Long expectedVersion;
         try {
-            commandService.deactivateAggregate(businessId);
-            return ResponseEntity.noContent().build();
+            expectedVersion = EntityTagFromVersionAssembler.toVersionFromIfMatch(ifMatch);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            Optional<SampleAggregateRoot> optionalAggregate =
+                commandService.handle(new DeactivateSampleAggregateCommand(businessId, expectedVersion));
+            
+            return optionalAggregate
+                .map(aggregate -> ResponseEntity.noContent()
+                    .eTag(EntityTagFromVersionAssembler.toEntityTagFromVersion(aggregate.getVersion()))
+                    .<Void>build())
+                .orElse(ResponseEntity.notFound().build());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
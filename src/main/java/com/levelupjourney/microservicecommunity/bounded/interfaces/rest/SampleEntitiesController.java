@@ -0,0 +1,220 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest;
+
+import com.levelupjourney.microservicecommunity.bounded.application.internal.commandservices.SampleAggregateCommandService;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.AddSampleEntityCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.RemoveSampleEntityCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.SetSampleEntityActiveCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleEntityCommand;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.CreateSampleEntityResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleEntityResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.UpdateSampleEntityResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.AddSampleEntityCommandFromResourceAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.EntityTagFromVersionAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.SampleEntityResourceFromEntityAssembler;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform.UpdateSampleEntityCommandFromResourceAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * REST Controller for the entities of a Sample Aggregate.
+ * Each operation changes one element of the embedded entity array in place,
+ * without reading or rewriting the rest of the aggregate.
+ *
+ * Responses carry the version of the aggregate as ETag, and every operation
+ * accepts it in If-Match, as on the aggregate itself.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping(value = "/api/v1/sample-aggregates/{businessId}/entities", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Sample Entities", description = "Operations related to the entities of Sample Aggregates")
+public class SampleEntitiesController {
+
+    private final SampleAggregateCommandService commandService;
+
+    public SampleEntitiesController(SampleAggregateCommandService commandService) {
+        this.commandService = commandService;
+    }
+
+    /**
+     * Adds an entity to a sample aggregate.
+     */
+    @PostMapping
+    @Operation(summary = "Add an entity to a sample aggregate")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Entity added successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid request data or If-Match header"),
+        @ApiResponse(responseCode = "404", description = "Aggregate not found"),
+        @ApiResponse(responseCode = "409", description = "Entity ID already exists or aggregate holds the maximum number of entities"),
+        @ApiResponse(responseCode = "412", description = "Aggregate was modified since the If-Match version")
+    })
+    public ResponseEntity<SampleEntityResource> addSampleEntity(
+            @Parameter(description = "Business ID of the aggregate")
+            @PathVariable String businessId,
+            @Parameter(description = "ETag of the aggregate version the change applies to")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody CreateSampleEntityResource resource) {
+
+        return execute(businessId, resource.entityId(), HttpStatus.CREATED, expectedVersion -> {
+            AddSampleEntityCommand command =
+                AddSampleEntityCommandFromResourceAssembler.toCommandFromResource(businessId, resource, expectedVersion);
+            return commandService.handle(command);
+        }, ifMatch);
+    }
+
+    /**
+     * Updates name and value of an entity.
+     */
+    @PutMapping("/{entityId}")
+    @Operation(summary = "Update an entity of a sample aggregate")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Entity updated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid request data or If-Match header"),
+        @ApiResponse(responseCode = "404", description = "Aggregate or entity not found"),
+        @ApiResponse(responseCode = "412", description = "Aggregate was modified since the If-Match version")
+    })
+    public ResponseEntity<SampleEntityResource> updateSampleEntity(
+            @Parameter(description = "Business ID of the aggregate")
+            @PathVariable String businessId,
+            @Parameter(description = "ID of the entity")
+            @PathVariable String entityId,
+            @Parameter(description = "ETag of the aggregate version the change applies to")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateSampleEntityResource resource) {
+
+        return execute(businessId, entityId, HttpStatus.OK, expectedVersion -> {
+            UpdateSampleEntityCommand command = UpdateSampleEntityCommandFromResourceAssembler
+                .toCommandFromResource(businessId, entityId, resource, expectedVersion);
+            return commandService.handle(command);
+        }, ifMatch);
+    }
+
+    /**
+     * Activates an entity.
+     */
+    @PostMapping("/{entityId}/activate")
+    @Operation(summary = "Activate an entity of a sample aggregate")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Entity is active"),
+        @ApiResponse(responseCode = "400", description = "Invalid If-Match header"),
+        @ApiResponse(responseCode = "404", description = "Aggregate or entity not found"),
+        @ApiResponse(responseCode = "412", description = "Aggregate was modified since the If-Match version")
+    })
+    public ResponseEntity<SampleEntityResource> activateSampleEntity(
+            @Parameter(description = "Business ID of the aggregate")
+            @PathVariable String businessId,
+            @Parameter(description = "ID of the entity")
+            @PathVariable String entityId,
+            @Parameter(description = "ETag of the aggregate version the change applies to")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        return execute(businessId, entityId, HttpStatus.OK, expectedVersion ->
+            commandService.handle(new SetSampleEntityActiveCommand(businessId, entityId, true, expectedVersion)), ifMatch);
+    }
+
+    /**
+     * Deactivates an entity.
+     */
+    @PostMapping("/{entityId}/deactivate")
+    @Operation(summary = "Deactivate an entity of a sample aggregate")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Entity is inactive"),
+        @ApiResponse(responseCode = "400", description = "Invalid If-Match header"),
+        @ApiResponse(responseCode = "404", description = "Aggregate or entity not found"),
+        @ApiResponse(responseCode = "412", description = "Aggregate was modified since the If-Match version")
+    })
+    public ResponseEntity<SampleEntityResource> deactivateSampleEntity(
+            @Parameter(description = "Business ID of the aggregate")
+            @PathVariable String businessId,
+            @Parameter(description = "ID of the entity")
+            @PathVariable String entityId,
+            @Parameter(description = "ETag of the aggregate version the change applies to")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        return execute(businessId, entityId, HttpStatus.OK, expectedVersion ->
+            commandService.handle(new SetSampleEntityActiveCommand(businessId, entityId, false, expectedVersion)), ifMatch);
+    }
+
+    /**
+     * Removes an entity from a sample aggregate.
+     */
+    @DeleteMapping("/{entityId}")
+    @Operation(summary = "Remove an entity from a sample aggregate")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Entity removed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid If-Match header"),
+        @ApiResponse(responseCode = "404", description = "Aggregate or entity not found"),
+        @ApiResponse(responseCode = "412", description = "Aggregate was modified since the If-Match version")
+    })
+    public ResponseEntity<Void> removeSampleEntity(
+            @Parameter(description = "Business ID of the aggregate")
+            @PathVariable String businessId,
+            @Parameter(description = "ID of the entity")
+            @PathVariable String entityId,
+            @Parameter(description = "ETag of the aggregate version the change applies to")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        try {
+            Long expectedVersion = EntityTagFromVersionAssembler.toVersionFromIfMatch(ifMatch);
+            Optional<SampleAggregateRoot> optionalAggregate =
+                commandService.handle(new RemoveSampleEntityCommand(businessId, entityId, expectedVersion));
+
+            return optionalAggregate
+                .map(aggregate -> ResponseEntity.noContent()
+                    .eTag(EntityTagFromVersionAssembler.toEntityTagFromVersion(aggregate.getVersion()))
+                    .<Void>build())
+                .orElse(ResponseEntity.notFound().build());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Runs an entity command with the version from If-Match and answers with
+     * the entity as found in the aggregate returned by the command.
+     */
+    private ResponseEntity<SampleEntityResource> execute(
+            String businessId, String entityId, HttpStatus status,
+            Function<Long, Optional<SampleAggregateRoot>> handler, String ifMatch) {
+
+        try {
+            Optional<SampleAggregateRoot> optionalAggregate =
+                handler.apply(EntityTagFromVersionAssembler.toVersionFromIfMatch(ifMatch));
+
+            return optionalAggregate
+                .flatMap(aggregate -> aggregate.findSampleEntity(entityId)
+                    .map(entity -> {
+                        ResponseEntity.BodyBuilder response = status == HttpStatus.CREATED
+                            ? ResponseEntity.created(URI.create(
+                                "/api/v1/sample-aggregates/" + businessId + "/entities/" + entityId))
+                            : ResponseEntity.status(status);
+                        return response
+                            .eTag(EntityTagFromVersionAssembler.toEntityTagFromVersion(aggregate.getVersion()))
+                            .body(SampleEntityResourceFromEntityAssembler.toResourceFromEntity(entity));
+                    }))
+                .orElse(ResponseEntity.notFound().build());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources;
+
+/**
+ * Resource for a single item of a batch request.
+ * The operation is one of CREATE, UPDATE or DEACTIVATE; name and description
+ * are only used by CREATE and UPDATE.
+ */
+public record BatchSampleAggregateItemResource(
+    String operation,
+    String businessId,
+    String name,
+    String description
+) {}
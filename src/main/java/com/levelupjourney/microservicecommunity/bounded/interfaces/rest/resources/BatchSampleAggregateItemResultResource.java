@@ -0,0 +1,12 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources;
+
+/**
+ * Resource representing the result of a single batch item in API responses.
+ * The index refers to the position of the item in the request.
+ */
+public record BatchSampleAggregateItemResultResource(
+    int index,
+    String businessId,
+    String outcome,
+    String message
+) {}
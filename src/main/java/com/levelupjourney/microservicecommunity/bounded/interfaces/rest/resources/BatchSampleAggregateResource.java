@@ -0,0 +1,11 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Resource for applying several aggregate operations in one request.
+ * Represents the request payload for the batch endpoint.
+ */
+public record BatchSampleAggregateResource(
+    List<BatchSampleAggregateItemResource> items
+) {}
@@ -0,0 +1,11 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Resource representing the outcome of a batch request in API responses.
+ * Contains one result per request item, in request order.
+ */
+public record BatchSampleAggregateResultResource(
+    List<BatchSampleAggregateItemResultResource> results
+) {}
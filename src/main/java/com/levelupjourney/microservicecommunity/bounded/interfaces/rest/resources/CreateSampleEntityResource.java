@@ -0,0 +1,12 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources;
+
+/**
+ * Resource for adding an entity to a sample aggregate.
+ * Represents the request payload for entity creation.
+ */
+public record CreateSampleEntityResource(
+    String entityId,
+    String name,
+    String type,
+    Double value
+) {}
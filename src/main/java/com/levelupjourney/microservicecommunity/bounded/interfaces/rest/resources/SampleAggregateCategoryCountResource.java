@@ -0,0 +1,10 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources;
+
+/**
+ * Resource representing the number of aggregates per value object category and priority in API responses.
+ */
+public record SampleAggregateCategoryCountResource(
+    String category,
+    Integer priority,
+    long count
+) {}
@@ -0,0 +1,15 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Resource representing a keyset-paginated page of sample aggregates in API responses.
+ * The next token is passed back to fetch the following page; the total is only
+ * present when it was explicitly requested.
+ */
+public record SampleAggregateCursorPageResource(
+    List<SampleAggregateResource> content,
+    String nextToken,
+    boolean hasNext,
+    Long totalElements
+) {}
@@ -0,0 +1,9 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources;
+
+/**
+ * Resource representing the number of aggregates with a status in API responses.
+ */
+public record SampleAggregateStatusCountResource(
+    String status,
+    long count
+) {}
@@ -0,0 +1,11 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resource representing the number of aggregates created in a time bucket in API responses.
+ */
+public record SampleAggregateTimeBucketCountResource(
+    LocalDateTime bucketStart,
+    long count
+) {}
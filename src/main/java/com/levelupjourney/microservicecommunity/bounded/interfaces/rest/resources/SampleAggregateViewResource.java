@@ -0,0 +1,24 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resource representing the read model view of a sample aggregate.
+ * Flattens the value object and includes precomputed entity statistics.
+ */
+public record SampleAggregateViewResource(
+    String id,
+    String businessId,
+    String name,
+    String description,
+    String status,
+    String code,
+    String displayName,
+    String category,
+    Integer priority,
+    int entityCount,
+    int activeEntityCount,
+    double businessValue,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {}
@@ -0,0 +1,15 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resource representing an entity of a sample aggregate in API responses.
+ */
+public record SampleEntityResource(
+    String entityId,
+    String name,
+    String type,
+    Double value,
+    LocalDateTime createdAt,
+    boolean active
+) {}
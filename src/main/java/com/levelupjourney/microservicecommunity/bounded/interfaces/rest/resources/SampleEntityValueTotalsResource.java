@@ -0,0 +1,11 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources;
+
+/**
+ * Resource representing the totals of embedded entity values in API responses.
+ */
+public record SampleEntityValueTotalsResource(
+    long entityCount,
+    long activeEntityCount,
+    double valueSum,
+    double businessValueSum
+) {}
@@ -0,0 +1,10 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources;
+
+/**
+ * Resource for updating an entity of a sample aggregate.
+ * Represents the request payload for entity updates.
+ */
+public record UpdateSampleEntityResource(
+    String name,
+    Double value
+) {}
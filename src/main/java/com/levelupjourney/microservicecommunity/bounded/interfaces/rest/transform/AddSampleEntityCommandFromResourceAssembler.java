@@ -0,0 +1,31 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.AddSampleEntityCommand;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.CreateSampleEntityResource;
+
+/**
+ * Assembler for transforming CreateSampleEntityResource to AddSampleEntityCommand.
+ * Implements the transformation between interface layer and domain layer.
+ */
+public class AddSampleEntityCommandFromResourceAssembler {
+
+    /**
+     * Transforms a create entity resource to an add entity command.
+     * 
+     * @param businessId the business identifier taken from the request path
+     * @param resource the REST resource
+     * @param expectedVersion the version required by the request, null for any version
+     * @return the domain command
+     */
+    public static AddSampleEntityCommand toCommandFromResource(
+            String businessId, CreateSampleEntityResource resource, Long expectedVersion) {
+        return new AddSampleEntityCommand(
+            businessId,
+            resource.entityId(),
+            resource.name(),
+            resource.type(),
+            resource.value(),
+            expectedVersion
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.CreateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.DeactivateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.SampleAggregateBatchItemCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.BatchSampleAggregateItemResource;
+
+/**
+ * Assembler for transforming BatchSampleAggregateItemResource to the matching aggregate command.
+ * Implements the transformation between interface layer and domain layer.
+ */
+public class BatchSampleAggregateCommandFromResourceAssembler {
+
+    /**
+     * Transforms a batch item resource to a create, update or deactivate command.
+     * 
+     * @param resource the REST resource
+     * @return the domain command
+     * @throws IllegalArgumentException if the operation is unknown or the command is invalid
+     */
+    public static SampleAggregateBatchItemCommand toCommandFromResource(BatchSampleAggregateItemResource resource) {
+        if (resource == null || resource.operation() == null) {
+            throw new IllegalArgumentException("Operation cannot be empty");
+        }
+        return switch (resource.operation().trim().toUpperCase()) {
+            case "CREATE" -> new CreateSampleAggregateCommand(resource.businessId(), resource.name(), resource.description());
+            case "UPDATE" -> new UpdateSampleAggregateCommand(resource.businessId(), resource.name(), resource.description());
+            case "DEACTIVATE" -> new DeactivateSampleAggregateCommand(resource.businessId());
+            default -> throw new IllegalArgumentException("Unknown operation: " + resource.operation());
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.BatchOperationResult;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.BatchSampleAggregateItemResultResource;
+
+/**
+ * Assembler for transforming BatchOperationResult to BatchSampleAggregateItemResultResource.
+ * Implements the transformation between domain layer and interface layer.
+ */
+public class BatchSampleAggregateItemResultResourceFromResultAssembler {
+
+    /**
+     * Transforms a batch operation result to a REST resource.
+     * 
+     * @param index the position of the item in the request
+     * @param result the batch operation result
+     * @return the REST resource
+     */
+    public static BatchSampleAggregateItemResultResource toResourceFromResult(int index, BatchOperationResult result) {
+        return new BatchSampleAggregateItemResultResource(
+            index,
+            result.businessId(),
+            result.outcome().name(),
+            result.message()
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform;
+
+/**
+ * Assembler for transforming aggregate versions to HTTP entity tags and back.
+ * The entity tag of an aggregate is its version as a strong tag, e.g. "3";
+ * aggregates written before versioning have version 0.
+ */
+public class EntityTagFromVersionAssembler {
+
+    /**
+     * Transforms an aggregate version to an entity tag.
+     * 
+     * @param version the aggregate version, null if written before versioning
+     * @return the entity tag
+     */
+    public static String toEntityTagFromVersion(Long version) {
+        return "\"" + (version == null ? 0 : version) + "\"";
+    }
+
+    /**
+     * Transforms an If-Match header to the version it requires.
+     * 
+     * @param ifMatch the If-Match header value, null if absent
+     * @return the required version, null if any version matches
+     * @throws IllegalArgumentException if the header is not a single strong entity tag or "*"
+     */
+    public static Long toVersionFromIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be a single strong entity tag");
+        }
+        try {
+            long version = Long.parseLong(tag.substring(1, tag.length() - 1));
+            if (version < 0) {
+                throw new IllegalArgumentException("If-Match does not match any version");
+            }
+            return version;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match does not match any version", e);
+        }
+    }
+}
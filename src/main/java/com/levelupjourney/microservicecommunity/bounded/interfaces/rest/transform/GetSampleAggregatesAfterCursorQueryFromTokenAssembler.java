@@ -0,0 +1,66 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.queries.GetSampleAggregatesAfterCursorQuery;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Assembler for transforming continuation tokens to GetSampleAggregatesAfterCursorQuery and back.
+ * A token is the URL-safe Base64 encoding of the creation time and ID of the
+ * last aggregate of a page; clients treat it as opaque.
+ * Decoded IDs are checked to be ObjectIds, so a tampered token is rejected
+ * instead of reaching the query as a string that compares against no ID.
+ */
+public class GetSampleAggregatesAfterCursorQueryFromTokenAssembler {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Transforms a continuation token to a cursor query.
+     * 
+     * @param token the continuation token, null or blank for the first page
+     * @param size the page size
+     * @return the domain query
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static GetSampleAggregatesAfterCursorQuery toQueryFromToken(String token, int size) {
+        if (token == null || token.isBlank()) {
+            return new GetSampleAggregatesAfterCursorQuery(null, null, size);
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid continuation token");
+            }
+            String afterId = decoded.substring(separator + 1);
+            if (!ObjectId.isValid(afterId)) {
+                throw new IllegalArgumentException("Invalid continuation token");
+            }
+            return new GetSampleAggregatesAfterCursorQuery(
+                LocalDateTime.parse(decoded.substring(0, separator)),
+                afterId,
+                size
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid continuation token", e);
+        }
+    }
+
+    /**
+     * Creates the continuation token pointing right after the given aggregate.
+     * 
+     * @param lastAggregate the last aggregate of the current page
+     * @return the continuation token
+     */
+    public static String toTokenFromSummary(SampleAggregateSummary lastAggregate) {
+        String cursor = lastAggregate.createdAt() + SEPARATOR + lastAggregate.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
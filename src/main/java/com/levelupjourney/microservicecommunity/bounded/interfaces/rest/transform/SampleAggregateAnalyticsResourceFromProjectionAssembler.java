@@ -0,0 +1,58 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateCategoryCount;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateStatusCount;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateTimeBucketCount;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleEntityValueTotals;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateCategoryCountResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateStatusCountResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateTimeBucketCountResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleEntityValueTotalsResource;
+
+/**
+ * Assembler for transforming analytics projections to REST resources.
+ */
+public class SampleAggregateAnalyticsResourceFromProjectionAssembler {
+
+    /**
+     * Transforms a status count to a REST resource.
+     * 
+     * @param statusCount the status count
+     * @return the REST resource
+     */
+    public static SampleAggregateStatusCountResource toResourceFromStatusCount(SampleAggregateStatusCount statusCount) {
+        return new SampleAggregateStatusCountResource(statusCount.status(), statusCount.count());
+    }
+
+    /**
+     * Transforms a time bucket count to a REST resource.
+     * 
+     * @param bucketCount the time bucket count
+     * @return the REST resource
+     */
+    public static SampleAggregateTimeBucketCountResource toResourceFromTimeBucketCount(SampleAggregateTimeBucketCount bucketCount) {
+        return new SampleAggregateTimeBucketCountResource(bucketCount.bucketStart(), bucketCount.count());
+    }
+
+    /**
+     * Transforms a category and priority count to a REST resource.
+     * 
+     * @param categoryCount the category and priority count
+     * @return the REST resource
+     */
+    public static SampleAggregateCategoryCountResource toResourceFromCategoryCount(SampleAggregateCategoryCount categoryCount) {
+        return new SampleAggregateCategoryCountResource(
+            categoryCount.category(), categoryCount.priority(), categoryCount.count());
+    }
+
+    /**
+     * Transforms entity value totals to a REST resource.
+     * 
+     * @param totals the entity value totals
+     * @return the REST resource
+     */
+    public static SampleEntityValueTotalsResource toResourceFromEntityValueTotals(SampleEntityValueTotals totals) {
+        return new SampleEntityValueTotalsResource(
+            totals.entityCount(), totals.activeEntityCount(), totals.valueSum(), totals.businessValueSum());
+    }
+}
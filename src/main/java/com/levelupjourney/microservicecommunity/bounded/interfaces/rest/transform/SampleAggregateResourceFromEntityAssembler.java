@@ -21,7 +21,7 @@ public class SampleAggregateResourceFromEntityAssembler {
             entity.getBusinessId(),
             entity.getName(),
             entity.getDescription(),
-            entity.getStatus(),
+            entity.getStatus().name(),
             entity.getCreatedAt(),
             entity.getUpdatedAt()
         );
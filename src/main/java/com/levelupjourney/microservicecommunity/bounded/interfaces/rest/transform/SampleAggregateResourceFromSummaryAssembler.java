@@ -0,0 +1,29 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateSummary;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateResource;
+
+/**
+ * Assembler for transforming SampleAggregateSummary to SampleAggregateResource.
+ * Used by the read endpoints, which query projections instead of full aggregates.
+ */
+public class SampleAggregateResourceFromSummaryAssembler {
+
+    /**
+     * Transforms an aggregate projection to a REST resource.
+     * 
+     * @param summary the aggregate projection
+     * @return the REST resource
+     */
+    public static SampleAggregateResource toResourceFromSummary(SampleAggregateSummary summary) {
+        return new SampleAggregateResource(
+            summary.id(),
+            summary.businessId(),
+            summary.name(),
+            summary.description(),
+            summary.status().name(),
+            summary.createdAt(),
+            summary.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.views.SampleAggregateView;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleAggregateViewResource;
+
+/**
+ * Assembler for transforming SampleAggregateView to SampleAggregateViewResource.
+ */
+public class SampleAggregateViewResourceFromViewAssembler {
+
+    /**
+     * Transforms an aggregate view to a REST resource.
+     * 
+     * @param view the aggregate view
+     * @return the REST resource
+     */
+    public static SampleAggregateViewResource toResourceFromView(SampleAggregateView view) {
+        return new SampleAggregateViewResource(
+            view.getAggregateId(),
+            view.getBusinessId(),
+            view.getName(),
+            view.getDescription(),
+            view.getStatus(),
+            view.getCode(),
+            view.getDisplayName(),
+            view.getCategory(),
+            view.getPriority(),
+            view.getEntityCount(),
+            view.getActiveEntityCount(),
+            view.getBusinessValue(),
+            view.getCreatedAt(),
+            view.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.entities.SampleEntity;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.SampleEntityResource;
+
+/**
+ * Assembler for transforming SampleEntity to SampleEntityResource.
+ * Implements the transformation between domain layer and interface layer.
+ */
+public class SampleEntityResourceFromEntityAssembler {
+
+    /**
+     * Transforms a domain entity to a REST resource.
+     * 
+     * @param entity the domain entity
+     * @return the REST resource
+     */
+    public static SampleEntityResource toResourceFromEntity(SampleEntity entity) {
+        return new SampleEntityResource(
+            entity.getEntityId(),
+            entity.getName(),
+            entity.getType(),
+            entity.getValue(),
+            entity.getCreatedAt(),
+            entity.isActive()
+        );
+    }
+}
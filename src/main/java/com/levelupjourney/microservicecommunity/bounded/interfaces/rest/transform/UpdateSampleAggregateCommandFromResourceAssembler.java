@@ -0,0 +1,29 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.UpdateSampleAggregateResource;
+
+/**
+ * Assembler for transforming UpdateSampleAggregateResource to UpdateSampleAggregateCommand.
+ * Implements the transformation between interface layer and domain layer.
+ */
+public class UpdateSampleAggregateCommandFromResourceAssembler {
+
+    /**
+     * Transforms an update resource to an update command.
+     * 
+     * @param businessId the business identifier taken from the request path
+     * @param resource the REST resource
+     * @param expectedVersion the version required by the request, null for any version
+     * @return the domain command
+     */
+    public static UpdateSampleAggregateCommand toCommandFromResource(
+            String businessId, UpdateSampleAggregateResource resource, Long expectedVersion) {
+        return new UpdateSampleAggregateCommand(
+            businessId,
+            resource.name(),
+            resource.description(),
+            expectedVersion
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest.transform;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleEntityCommand;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.UpdateSampleEntityResource;
+
+/**
+ * Assembler for transforming UpdateSampleEntityResource to UpdateSampleEntityCommand.
+ * Implements the transformation between interface layer and domain layer.
+ */
+public class UpdateSampleEntityCommandFromResourceAssembler {
+
+    /**
+     * Transforms an update entity resource to an update entity command.
+     * 
+     * @param businessId the business identifier taken from the request path
+     * @param entityId the entity identifier taken from the request path
+     * @param resource the REST resource
+     * @param expectedVersion the version required by the request, null for any version
+     * @return the domain command
+     */
+    public static UpdateSampleEntityCommand toCommandFromResource(
+            String businessId, String entityId, UpdateSampleEntityResource resource, Long expectedVersion) {
+        return new UpdateSampleEntityCommand(
+            businessId,
+            entityId,
+            resource.name(),
+            resource.value(),
+            expectedVersion
+        );
+    }
+}
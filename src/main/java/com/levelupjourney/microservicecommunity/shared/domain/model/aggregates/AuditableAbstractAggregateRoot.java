@@ -1,20 +1,32 @@
 package com.levelupjourney.microservicecommunity.shared.domain.model.aggregates;
 
+import com.levelupjourney.microservicecommunity.shared.domain.model.events.PendingDomainEvent;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.AbstractAggregateRoot;
-import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Abstract class for aggregate roots that need auditing capabilities.
  * It extends AbstractAggregateRoot to support domain events.
  * MongoDB version using Spring Data MongoDB annotations.
  *
+ * Domain events are not published on save: they are kept in the pending_events
+ * outbox of the document, written in the same operation as the change, and
+ * dispatched asynchronously by the outbox relay.
+ *
+ * The version is incremented by every write, so writers can make an update
+ * conditional on the version they read (optimistic locking) instead of
+ * serializing requests. Documents written before versioning have no version
+ * and are treated as version 0.
+ *
  * @param <T> the type of the aggregate root
  */
 @Getter
@@ -31,12 +43,34 @@ public abstract class AuditableAbstractAggregateRoot<T extends AbstractAggregate
     @Field("updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Field("version")
+    private Long version;
+
+    @Field("pending_events")
+    private List<PendingDomainEvent> pendingEvents;
+
     /**
-     * Registers a domain event to be published.
+     * Registers a domain event in the outbox of the aggregate.
+     * It is published once the aggregate has been written.
      *
      * @param event the domain event to register
      */
     public void addDomainEvent(Object event) {
-        registerEvent(event);
+        if (this.pendingEvents == null) {
+            this.pendingEvents = new ArrayList<>();
+        }
+        this.pendingEvents.add(PendingDomainEvent.of(event));
+    }
+
+    /**
+     * Clears the outbox of the aggregate once it has been written.
+     * The events are then held by the stored document until the relay
+     * dispatches them, so the in-memory aggregate does not keep them around.
+     */
+    public void clearPendingEvents() {
+        if (this.pendingEvents != null) {
+            this.pendingEvents.clear();
+        }
     }
 }
@@ -0,0 +1,76 @@
+package com.levelupjourney.microservicecommunity.shared.domain.model.events;
+
+import lombok.Getter;
+import org.springframework.data.annotation.PersistenceCreator;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Domain event waiting in the outbox of its aggregate.
+ * Pending events are embedded in the aggregate document, so they are written
+ * atomically with the change that raised them and dispatched afterwards.
+ * The payload is stored with its type, so it is read back as the original event.
+ */
+@Getter
+public class PendingDomainEvent {
+
+    @Field("event_id")
+    private String eventId;
+
+    @Field("type")
+    private String type;
+
+    @Field("payload")
+    private Object payload;
+
+    @Field("occurred_at")
+    private LocalDateTime occurredAt;
+
+    @Field("attempts")
+    private int attempts;
+
+    @Field("next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Field("last_error")
+    private String lastError;
+
+    @PersistenceCreator
+    protected PendingDomainEvent(
+            String eventId, String type, Object payload, LocalDateTime occurredAt,
+            int attempts, LocalDateTime nextAttemptAt, String lastError) {
+        this.eventId = eventId;
+        this.type = type;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+    }
+
+    /**
+     * Creates a pending event that can be dispatched right away.
+     *
+     * @param payload the domain event
+     * @return the pending event
+     */
+    public static PendingDomainEvent of(Object payload) {
+        if (payload == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        return new PendingDomainEvent(
+            UUID.randomUUID().toString(), payload.getClass().getSimpleName(), payload, LocalDateTime.now(), 0, null, null);
+    }
+
+    /**
+     * Checks whether the event may be dispatched now, i.e. it is not waiting for a retry.
+     *
+     * @param now the current time
+     * @return true if the event is due
+     */
+    public boolean isDue(LocalDateTime now) {
+        return nextAttemptAt == null || !nextAttemptAt.isAfter(now);
+    }
+}
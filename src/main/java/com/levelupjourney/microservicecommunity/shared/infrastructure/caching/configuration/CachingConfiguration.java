@@ -0,0 +1,14 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.caching.configuration;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caching Configuration.
+ * Enables Spring's annotation-driven caching; the cache provider, cache names
+ * and eviction policy are configured through the spring.cache.* properties.
+ */
+@Configuration
+@EnableCaching
+public class CachingConfiguration {
+}
@@ -0,0 +1,59 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.changestreams;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Persists change stream resume tokens so a restarted listener continues
+ * where it stopped instead of missing the events in between.
+ * Tokens are stored per listener name in the change_stream_resume_tokens collection.
+ */
+@Component
+public class ChangeStreamResumeTokenStore {
+
+    private static final String COLLECTION = "change_stream_resume_tokens";
+
+    private final MongoTemplate mongoTemplate;
+
+    public ChangeStreamResumeTokenStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Loads the last saved resume token of a listener.
+     * 
+     * @param listenerName the unique name of the listener
+     * @return Optional containing the resume token, empty if none was saved
+     */
+    public Optional<BsonDocument> load(String listenerName) {
+        Document stored = mongoTemplate.findById(listenerName, Document.class, COLLECTION);
+        if (stored == null || stored.getString("token") == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new BsonDocument("_data", new BsonString(stored.getString("token"))));
+    }
+
+    /**
+     * Saves the resume token of a listener, replacing the previous one.
+     * 
+     * @param listenerName the unique name of the listener
+     * @param resumeToken the resume token of the last processed event
+     */
+    public void save(String listenerName, BsonDocument resumeToken) {
+        mongoTemplate.upsert(
+            Query.query(Criteria.where("_id").is(listenerName)),
+            new Update()
+                .set("token", resumeToken.getString("_data").getValue())
+                .set("updated_at", LocalDateTime.now()),
+            COLLECTION);
+    }
+}
@@ -1,24 +1,100 @@
 package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.configuration;
 
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.converters.SampleAggregateConverters;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.event.CommandListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions.MongoConverterConfigurationAdapter;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 /**
  * MongoDB Configuration for the application.
  * Configures MongoDB client and enables repositories.
+ * 
+ * Connects to localhost unless spring.data.mongodb.uri is set, in which case
+ * the URI also selects the database. CommandListener beans are registered
+ * with the client, so driver commands can be observed.
+ * 
+ * Automatic index creation is off by default; declared indexes are built
+ * by MongoIndexManager instead. @Document entities are scanned from the domain
+ * model package at startup, so the mapping context knows every collection and
+ * its indexes before the first repository call.
+ * 
+ * Types embedded in aggregates are converted by hand-written converters
+ * rather than by reflective mapping.
+ * 
+ * Driver calls block the calling thread, so with virtual threads enabled the
+ * number of concurrent requests is no longer capped by the Tomcat pool but by
+ * the connection pool; requests beyond its size wait up to the maximum wait time.
  */
 @Configuration
 @EnableMongoRepositories(basePackages = "com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories")
 public class MongoDbConfiguration extends AbstractMongoClientConfiguration {
 
+    private static final String DEFAULT_DATABASE_NAME = "microservice-community";
+    private static final String MAPPING_BASE_PACKAGE = "com.levelupjourney.microservicecommunity.bounded.domain.model";
+
+    private final ConnectionString connectionString;
+    private final int connectionPoolMaxSize;
+    private final Duration connectionPoolMaxWaitTime;
+    private final ObjectProvider<CommandListener> commandListeners;
+    private final boolean autoIndexCreation;
+
+    public MongoDbConfiguration(
+            @Value("${spring.data.mongodb.uri:}") String uri,
+            @Value("${mongodb.connection-pool.max-size:100}") int connectionPoolMaxSize,
+            @Value("${mongodb.connection-pool.max-wait-time:PT2M}") Duration connectionPoolMaxWaitTime,
+            ObjectProvider<CommandListener> commandListeners,
+            @Value("${spring.data.mongodb.auto-index-creation:false}") boolean autoIndexCreation) {
+        this.connectionString = uri.isBlank() ? null : new ConnectionString(uri);
+        this.connectionPoolMaxSize = connectionPoolMaxSize;
+        this.connectionPoolMaxWaitTime = connectionPoolMaxWaitTime;
+        this.commandListeners = commandListeners;
+        this.autoIndexCreation = autoIndexCreation;
+    }
+
     @Override
     protected String getDatabaseName() {
-        return "microservice-community";
+        if (connectionString != null && connectionString.getDatabase() != null) {
+            return connectionString.getDatabase();
+        }
+        return DEFAULT_DATABASE_NAME;
+    }
+
+    @Override
+    protected Collection<String> getMappingBasePackages() {
+        return List.of(MAPPING_BASE_PACKAGE);
     }
 
     @Override
     protected boolean autoIndexCreation() {
-        return true;
+        return autoIndexCreation;
+    }
+
+    @Override
+    protected void configureConverters(MongoConverterConfigurationAdapter adapter) {
+        adapter.registerConverters(SampleAggregateConverters.converters());
+    }
+
+    @Override
+    protected void configureClientSettings(MongoClientSettings.Builder builder) {
+        if (connectionString != null) {
+            builder.applyConnectionString(connectionString);
+        }
+        // Writes are not idempotent; only the driver retries them, exactly once
+        builder.retryWrites(true);
+        builder.applyToConnectionPoolSettings(pool -> pool
+            .maxSize(connectionPoolMaxSize)
+            .maxWaitTime(connectionPoolMaxWaitTime.toMillis(), TimeUnit.MILLISECONDS));
+        commandListeners.orderedStream().forEach(builder::addCommandListener);
     }
 }
@@ -0,0 +1,75 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.configuration;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.event.CommandListener;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reactive MongoDB Configuration, active with the reactive profile.
+ * Configures the reactive streams MongoDB client next to the blocking one
+ * and enables the reactive repositories.
+ * 
+ * The mapping context and converter of MongoDbConfiguration are shared,
+ * so both clients read and write documents the same way.
+ * Connection URI, pool and command listener settings match MongoDbConfiguration.
+ */
+@Configuration
+@Profile("reactive")
+@EnableReactiveMongoRepositories(basePackages = "com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.reactive.repositories")
+public class ReactiveMongoDbConfiguration {
+
+    private static final String DEFAULT_DATABASE_NAME = "microservice-community";
+
+    private final ConnectionString connectionString;
+    private final int connectionPoolMaxSize;
+    private final Duration connectionPoolMaxWaitTime;
+    private final ObjectProvider<CommandListener> commandListeners;
+
+    public ReactiveMongoDbConfiguration(
+            @Value("${spring.data.mongodb.uri:}") String uri,
+            @Value("${mongodb.connection-pool.max-size:100}") int connectionPoolMaxSize,
+            @Value("${mongodb.connection-pool.max-wait-time:PT2M}") Duration connectionPoolMaxWaitTime,
+            ObjectProvider<CommandListener> commandListeners) {
+        this.connectionString = uri.isBlank() ? null : new ConnectionString(uri);
+        this.connectionPoolMaxSize = connectionPoolMaxSize;
+        this.connectionPoolMaxWaitTime = connectionPoolMaxWaitTime;
+        this.commandListeners = commandListeners;
+    }
+
+    @Bean
+    public MongoClient reactiveMongoClient() {
+        MongoClientSettings.Builder builder = MongoClientSettings.builder();
+        if (connectionString != null) {
+            builder.applyConnectionString(connectionString);
+        }
+        builder.applyToConnectionPoolSettings(pool -> pool
+            .maxSize(connectionPoolMaxSize)
+            .maxWaitTime(connectionPoolMaxWaitTime.toMillis(), TimeUnit.MILLISECONDS));
+        commandListeners.orderedStream().forEach(builder::addCommandListener);
+        return MongoClients.create(builder.build());
+    }
+
+    @Bean
+    public ReactiveMongoTemplate reactiveMongoTemplate(MongoClient reactiveMongoClient, MappingMongoConverter mappingMongoConverter) {
+        String databaseName = connectionString != null && connectionString.getDatabase() != null
+            ? connectionString.getDatabase()
+            : DEFAULT_DATABASE_NAME;
+        return new ReactiveMongoTemplate(
+            new SimpleReactiveMongoDatabaseFactory(reactiveMongoClient, databaseName),
+            mappingMongoConverter);
+    }
+}
@@ -0,0 +1,12 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.indexes;
+
+/**
+ * A difference between the indexes declared on an entity and those of its collection.
+ *
+ * @param collection the collection name
+ * @param index the index name
+ * @param type the kind of difference
+ * @param detail the declared and/or live definition of the index
+ */
+public record IndexDrift(String collection, String index, IndexDriftType type, String detail) {
+}
@@ -0,0 +1,13 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.indexes;
+
+/**
+ * Kinds of difference between declared and live indexes.
+ */
+public enum IndexDriftType {
+    /** Declared on an entity but not present on the collection. */
+    MISSING,
+    /** Present under the declared name but with other keys or options. */
+    CHANGED,
+    /** Present on the collection but not declared on any entity. */
+    UNDECLARED
+}
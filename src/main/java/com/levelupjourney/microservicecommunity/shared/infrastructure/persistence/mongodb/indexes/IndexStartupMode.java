@@ -0,0 +1,14 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.indexes;
+
+/**
+ * What the index manager does once the application is ready.
+ * Unique indexes are built during startup in every mode.
+ */
+public enum IndexStartupMode {
+    /** Builds missing indexes in the background and reports the remaining drift. */
+    BUILD,
+    /** Only reports drift; missing indexes are built through the mongoindexes endpoint. */
+    REPORT,
+    /** Does nothing at startup. */
+    OFF
+}
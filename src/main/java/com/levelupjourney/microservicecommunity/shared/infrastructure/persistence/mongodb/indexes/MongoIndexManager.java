@@ -0,0 +1,225 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.indexes;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Reconciles the indexes declared on MongoDB entities with the live collections.
+ * Replaces automatic index creation, which ran synchronously during startup
+ * on every replica.
+ *
+ * Declared indexes are resolved from the mapping annotations (@Indexed,
+ * @CompoundIndex, including unique, sparse, TTL and partial options) of every
+ * @Document entity and compared to the collection's indexes by name, or by
+ * keys for unnamed ones. Missing indexes can be built; changed and undeclared
+ * indexes are only reported, as rebuilding or dropping them is left to an operator.
+ *
+ * Unique indexes carry invariants the application relies on, such as one
+ * aggregate per business ID, so missing ones are always built synchronously
+ * while the context starts, before the application serves requests. A failed
+ * build, for instance because duplicates already exist, fails startup.
+ *
+ * Once the application is ready, mongodb.indexes.startup-mode decides whether
+ * the remaining missing indexes are built on a background thread, only
+ * reported, or left alone. Builds can also be started explicitly through the
+ * mongoindexes actuator endpoint.
+ */
+@Component
+public class MongoIndexManager implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoIndexManager.class);
+    private static final String ID_INDEX_NAME = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final IndexStartupMode startupMode;
+
+    public MongoIndexManager(
+            MongoTemplate mongoTemplate,
+            @Value("${mongodb.indexes.startup-mode:build}") IndexStartupMode startupMode) {
+        this.mongoTemplate = mongoTemplate;
+        this.startupMode = startupMode;
+    }
+
+    /**
+     * Builds the missing unique indexes before the application starts serving
+     * requests, whatever the startup mode.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        buildMissingIndexes(MongoIndexManager::isUnique);
+    }
+
+    /**
+     * Starts the startup reconciliation once the application is ready.
+     * It runs on its own thread so startup and readiness do not wait for index builds.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (startupMode == IndexStartupMode.OFF) {
+            return;
+        }
+        Thread reconcileThread = new Thread(() -> {
+            try {
+                if (startupMode == IndexStartupMode.BUILD) {
+                    buildMissingIndexes();
+                }
+                inspect().forEach(drift -> LOGGER.warn("Index drift on {}: {} {} ({})",
+                    drift.collection(), drift.type(), drift.index(), drift.detail()));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Index reconciliation failed", e);
+            }
+        }, "mongo-index-manager");
+        reconcileThread.setDaemon(true);
+        reconcileThread.start();
+    }
+
+    /**
+     * Compares declared and live indexes of every entity collection.
+     *
+     * @return the differences found, empty if the collections match their declarations
+     */
+    public List<IndexDrift> inspect() {
+        List<IndexDrift> drift = new ArrayList<>();
+        declaredIndexes().forEach((collection, declared) -> {
+            List<Document> live = liveIndexes(collection);
+            Set<String> matchedLive = new HashSet<>();
+
+            for (IndexDefinition definition : declared) {
+                Document liveIndex = findLive(definition, live);
+                String name = nameOf(definition);
+                if (liveIndex == null) {
+                    drift.add(new IndexDrift(collection, name, IndexDriftType.MISSING, describe(definition)));
+                    continue;
+                }
+                matchedLive.add(liveIndex.getString("name"));
+                if (!sameDefinition(definition, liveIndex)) {
+                    drift.add(new IndexDrift(collection, name, IndexDriftType.CHANGED,
+                        "declared " + describe(definition) + ", live " + liveIndex.toJson()));
+                }
+            }
+
+            live.stream()
+                .filter(index -> !ID_INDEX_NAME.equals(index.getString("name")))
+                .filter(index -> !matchedLive.contains(index.getString("name")))
+                .forEach(index -> drift.add(new IndexDrift(collection, index.getString("name"),
+                    IndexDriftType.UNDECLARED, index.toJson())));
+        });
+        return drift;
+    }
+
+    /**
+     * Builds every declared index that is missing from its collection.
+     * Changed indexes are not touched. Builds run one after another and do not
+     * block reads or writes on the collection while they run.
+     *
+     * @return the names of the indexes that were built
+     */
+    public List<String> buildMissingIndexes() {
+        return buildMissingIndexes(definition -> true);
+    }
+
+    private synchronized List<String> buildMissingIndexes(Predicate<IndexDefinition> filter) {
+        List<String> built = new ArrayList<>();
+        declaredIndexes().forEach((collection, declared) -> {
+            List<Document> live = liveIndexes(collection);
+            for (IndexDefinition definition : declared) {
+                if (!filter.test(definition) || findLive(definition, live) != null) {
+                    continue;
+                }
+                long start = System.nanoTime();
+                String name = mongoTemplate.indexOps(collection).createIndex(definition);
+                LOGGER.info("Built index {} on {} in {} ms", name, collection, (System.nanoTime() - start) / 1_000_000);
+                built.add(collection + "." + name);
+            }
+        });
+        return built;
+    }
+
+    private Map<String, List<IndexDefinition>> declaredIndexes() {
+        IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        Map<String, List<IndexDefinition>> declared = new TreeMap<>();
+        for (MongoPersistentEntity<?> entity : mongoTemplate.getConverter().getMappingContext().getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            List<IndexDefinition> definitions = declared.computeIfAbsent(entity.getCollection(), key -> new ArrayList<>());
+            resolver.resolveIndexFor(entity.getTypeInformation()).forEach(definitions::add);
+        }
+        return declared;
+    }
+
+    private static boolean isUnique(IndexDefinition definition) {
+        return definition.getIndexOptions().getBoolean("unique", false);
+    }
+
+    private List<Document> liveIndexes(String collection) {
+        return mongoTemplate.getCollection(collection).listIndexes().into(new ArrayList<>());
+    }
+
+    private static Document findLive(IndexDefinition definition, List<Document> live) {
+        String name = definition.getIndexOptions().getString("name");
+        for (Document index : live) {
+            if (name != null ? name.equals(index.getString("name"))
+                    : normalizedKeys(definition.getIndexKeys()).equals(normalizedKeys(index.get("key", Document.class)))) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    private static boolean sameDefinition(IndexDefinition definition, Document live) {
+        Document options = definition.getIndexOptions();
+        return normalizedKeys(definition.getIndexKeys()).equals(normalizedKeys(live.get("key", Document.class)))
+            && options.getBoolean("unique", false) == live.getBoolean("unique", false)
+            && options.getBoolean("sparse", false) == live.getBoolean("sparse", false)
+            && Objects.equals(longOrNull(options.get("expireAfterSeconds")), longOrNull(live.get("expireAfterSeconds")))
+            && Objects.equals(options.get("partialFilterExpression"), live.get("partialFilterExpression"));
+    }
+
+    /**
+     * Key documents compare in field order, with numeric directions normalized,
+     * since the server may return 1 as an int, long or double.
+     */
+    private static List<Map.Entry<String, Object>> normalizedKeys(Document keys) {
+        if (keys == null) {
+            return List.of();
+        }
+        Map<String, Object> normalized = new LinkedHashMap<>();
+        keys.forEach((field, direction) ->
+            normalized.put(field, direction instanceof Number number ? number.intValue() : direction));
+        return new ArrayList<>(normalized.entrySet());
+    }
+
+    private static Long longOrNull(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    private static String nameOf(IndexDefinition definition) {
+        String name = definition.getIndexOptions().getString("name");
+        return name != null ? name : definition.getIndexKeys().toJson();
+    }
+
+    private static String describe(IndexDefinition definition) {
+        return new Document("key", definition.getIndexKeys()).append("options", definition.getIndexOptions()).toJson();
+    }
+}
@@ -0,0 +1,41 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.indexes;
+
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for index administration.
+ * GET /actuator/mongoindexes reports drift between declared and live indexes,
+ * POST /actuator/mongoindexes builds the missing ones.
+ *
+ * The endpoint is not exposed over HTTP by default. Once exposed it is
+ * read-only unless management.endpoint.mongoindexes.access=unrestricted,
+ * which should only be set behind authentication.
+ */
+@Component
+@Endpoint(id = "mongoindexes", defaultAccess = Access.READ_ONLY)
+public class MongoIndexesEndpoint {
+
+    private final MongoIndexManager mongoIndexManager;
+
+    public MongoIndexesEndpoint(MongoIndexManager mongoIndexManager) {
+        this.mongoIndexManager = mongoIndexManager;
+    }
+
+    @ReadOperation
+    public Map<String, List<IndexDrift>> drift() {
+        return Map.of("drift", mongoIndexManager.inspect());
+    }
+
+    @WriteOperation
+    public Map<String, List<?>> build() {
+        List<String> built = mongoIndexManager.buildMissingIndexes();
+        return Map.of("built", built, "drift", mongoIndexManager.inspect());
+    }
+}
@@ -0,0 +1,196 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.monitoring;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB driver command listener recording per-command metrics.
+ * Registered with every client through the MongoDB configurations.
+ *
+ * For each command it records:
+ * - mongodb.commands: duration, tagged by collection, operation and status
+ * - mongodb.commands.documents: documents returned by reads or affected by writes
+ * - mongodb.commands.bytes.sent / received: size of the command and reply documents
+ *
+ * Commands slower than the configured threshold can optionally be logged with
+ * their (truncated) command document. The document is only rendered to JSON
+ * while the slow query log is enabled.
+ */
+@Component
+public class MongoCommandMetricsListener implements CommandListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoCommandMetricsListener.class);
+    private static final String UNKNOWN_COLLECTION = "none";
+    private static final int MAX_LOGGED_COMMAND_LENGTH = 2000;
+
+    private final Meter.MeterProvider<Timer> commandTimer;
+    private final Meter.MeterProvider<DistributionSummary> documentsSummary;
+    private final Meter.MeterProvider<DistributionSummary> bytesSentSummary;
+    private final Meter.MeterProvider<DistributionSummary> bytesReceivedSummary;
+    private final boolean slowQueryLogEnabled;
+    private final long slowQueryThresholdNanos;
+    private final Map<Integer, StartedCommand> inFlight = new ConcurrentHashMap<>();
+
+    public MongoCommandMetricsListener(
+            MeterRegistry meterRegistry,
+            @Value("${mongodb.slow-query-log.enabled:false}") boolean slowQueryLogEnabled,
+            @Value("${mongodb.slow-query-log.threshold:PT0.1S}") Duration slowQueryThreshold) {
+        this.commandTimer = Timer.builder("mongodb.commands")
+            .description("MongoDB command execution time")
+            .withRegistry(meterRegistry);
+        this.documentsSummary = DistributionSummary.builder("mongodb.commands.documents")
+            .description("Documents returned or affected by a MongoDB command")
+            .baseUnit("documents")
+            .withRegistry(meterRegistry);
+        this.bytesSentSummary = DistributionSummary.builder("mongodb.commands.bytes.sent")
+            .description("Size of the MongoDB command document")
+            .baseUnit("bytes")
+            .withRegistry(meterRegistry);
+        this.bytesReceivedSummary = DistributionSummary.builder("mongodb.commands.bytes.received")
+            .description("Size of the MongoDB command reply")
+            .baseUnit("bytes")
+            .withRegistry(meterRegistry);
+        this.slowQueryLogEnabled = slowQueryLogEnabled;
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        BsonDocument command = event.getCommand();
+        String collection = collectionOf(event.getCommandName(), command);
+        String json = slowQueryLogEnabled ? command.toJson() : null;
+        inFlight.put(event.getRequestId(), new StartedCommand(collection, json));
+
+        long bytes = sizeOf(command);
+        if (bytes >= 0) {
+            bytesSentSummary.withTags("collection", collection, "operation", event.getCommandName()).record(bytes);
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        StartedCommand started = inFlight.remove(event.getRequestId());
+        String collection = started != null ? started.collection() : UNKNOWN_COLLECTION;
+        String operation = event.getCommandName();
+        long elapsedNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+
+        commandTimer.withTags("collection", collection, "operation", operation, "status", "success")
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        BsonDocument response = event.getResponse();
+        long documents = documentCountOf(response);
+        if (documents >= 0) {
+            documentsSummary.withTags("collection", collection, "operation", operation).record(documents);
+        }
+        long bytes = sizeOf(response);
+        if (bytes >= 0) {
+            bytesReceivedSummary.withTags("collection", collection, "operation", operation).record(bytes);
+        }
+
+        logIfSlow(started, collection, operation, elapsedNanos);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        StartedCommand started = inFlight.remove(event.getRequestId());
+        String collection = started != null ? started.collection() : UNKNOWN_COLLECTION;
+        String operation = event.getCommandName();
+        long elapsedNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+
+        commandTimer.withTags("collection", collection, "operation", operation, "status", "failure")
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        logIfSlow(started, collection, operation, elapsedNanos);
+    }
+
+    private void logIfSlow(StartedCommand started, String collection, String operation, long elapsedNanos) {
+        if (!slowQueryLogEnabled || elapsedNanos < slowQueryThresholdNanos) {
+            return;
+        }
+        String command = started != null && started.json() != null ? started.json() : "";
+        if (command.length() > MAX_LOGGED_COMMAND_LENGTH) {
+            command = command.substring(0, MAX_LOGGED_COMMAND_LENGTH) + "...";
+        }
+        LOGGER.warn("Slow MongoDB {} on {} took {} ms: {}",
+            operation, collection, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), command);
+    }
+
+    /**
+     * Resolves the target collection of a command.
+     * Most commands carry it as the value of their first key, getMore in its collection field.
+     */
+    private static String collectionOf(String commandName, BsonDocument command) {
+        BsonValue target = command.get(commandName);
+        if (target != null && target.isString()) {
+            return target.asString().getValue();
+        }
+        BsonValue collection = command.get("collection");
+        if (collection != null && collection.isString()) {
+            return collection.asString().getValue();
+        }
+        return UNKNOWN_COLLECTION;
+    }
+
+    /**
+     * Counts the documents a command returned or affected.
+     * Uses the cursor batch for find, aggregate and getMore, and n for writes and counts.
+     *
+     * @return the document count, or -1 if the reply carries none
+     */
+    private static long documentCountOf(BsonDocument response) {
+        BsonValue cursor = response.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonDocument cursorDocument = cursor.asDocument();
+            BsonValue batch = cursorDocument.containsKey("firstBatch")
+                ? cursorDocument.get("firstBatch")
+                : cursorDocument.get("nextBatch");
+            return batch != null && batch.isArray() ? batch.asArray().size() : -1;
+        }
+        BsonValue n = response.get("n");
+        return n != null && n.isNumber() ? n.asNumber().longValue() : -1;
+    }
+
+    /**
+     * Reads the encoded size of a document without re-encoding it.
+     * Documents handed out by the driver are backed by their wire bytes,
+     * whose first four bytes hold the total document length.
+     *
+     * @return the size in bytes, or -1 if the document is not byte-backed
+     */
+    private static long sizeOf(BsonDocument document) {
+        if (document instanceof RawBsonDocument raw) {
+            return raw.getByteBuffer().remaining();
+        }
+        try (BsonReader reader = document.asBsonReader()) {
+            if (reader instanceof BsonBinaryReader binaryReader) {
+                return binaryReader.getBsonInput().readInt32();
+            }
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not read size of MongoDB command document", e);
+        }
+        return -1;
+    }
+
+    private record StartedCommand(String collection, String json) {
+    }
+}
@@ -0,0 +1,196 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.outbox;
+
+import com.levelupjourney.microservicecommunity.shared.domain.model.events.PendingDomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Relays domain events from the pending_events outbox of aggregate documents
+ * to the application event publisher.
+ *
+ * A dispatch run claims a batch of aggregates whose first pending event is due
+ * by writing a lease into their outbox_lock field, so concurrent runs on other
+ * replicas skip them. Aggregates are claimed in the order their first event
+ * became due; those waiting for a retry are left alone until then. Events of each claimed aggregate are then published in the order they
+ * were raised; a failed event is retried later with exponential backoff, and
+ * the events behind it wait for it, which keeps delivery ordered per aggregate.
+ * Once an event has failed the configured number of times it is moved to the
+ * outbox_dead_letters collection so the events behind it can proceed.
+ *
+ * Published events are removed from the outbox only after publishing, so an
+ * event may be published again if the process stops in between or the lease
+ * expires: delivery is at least once and listeners must be idempotent.
+ */
+@Component
+public class MongoOutboxRelay {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoOutboxRelay.class);
+    private static final String PENDING_EVENTS = "pending_events";
+    private static final String LOCK = "outbox_lock";
+    private static final String FIRST_EVENT_DUE_AT = PENDING_EVENTS + ".0.next_attempt_at";
+    private static final String DEAD_LETTERS_COLLECTION = "outbox_dead_letters";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Meter.MeterProvider<Counter> eventsCounter;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration lockLease;
+
+    public MongoOutboxRelay(
+            MongoTemplate mongoTemplate,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.retry-backoff:PT1S}") Duration retryBackoff,
+            @Value("${outbox.lock-lease:PT30S}") Duration lockLease) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Outbox max attempts must be at least 1");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.eventPublisher = eventPublisher;
+        this.eventsCounter = Counter.builder("outbox.events")
+            .description("Outbox events handled by the relay, by outcome")
+            .withRegistry(meterRegistry);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.lockLease = lockLease;
+    }
+
+    /**
+     * Dispatches the pending events of up to batchSize aggregates of a collection.
+     *
+     * @param collection the aggregate collection
+     * @param batchSize the maximum number of aggregates to claim
+     * @return the number of events published or dead-lettered by this run, 0 when there was nothing due
+     */
+    public int dispatch(String collection, int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        String owner = UUID.randomUUID().toString();
+
+        Query candidates = new Query(claimable(now)).with(Sort.by(FIRST_EVENT_DUE_AT)).limit(batchSize);
+        candidates.fields().include("_id");
+        List<Object> ids = mongoTemplate.find(candidates, Document.class, collection).stream()
+            .map(document -> document.get("_id"))
+            .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // Re-checking the lock in the claim makes it safe against runs that picked the same candidates
+        mongoTemplate.updateMulti(
+            new Query(claimable(now).and("_id").in(ids)),
+            new Update().set(LOCK, new Document("owner", owner).append("expires_at", now.plus(lockLease))),
+            collection);
+
+        Query claimed = Query.query(Criteria.where(LOCK + ".owner").is(owner));
+        claimed.fields().include(PENDING_EVENTS);
+        int handled = 0;
+        for (Document aggregate : mongoTemplate.find(claimed, Document.class, collection)) {
+            handled += dispatchAggregate(collection, aggregate, owner);
+        }
+        return handled;
+    }
+
+    private int dispatchAggregate(String collection, Document aggregate, String owner) {
+        Object aggregateId = aggregate.get("_id");
+        LocalDateTime now = LocalDateTime.now();
+        List<String> handled = new ArrayList<>();
+
+        for (Document eventDocument : aggregate.getList(PENDING_EVENTS, Document.class, List.of())) {
+            PendingDomainEvent event = mongoTemplate.getConverter().read(PendingDomainEvent.class, eventDocument);
+            if (!event.isDue(now)) {
+                break;
+            }
+            try {
+                eventPublisher.publishEvent(event.getPayload());
+                handled.add(event.getEventId());
+                eventsCounter.withTags("collection", collection, "outcome", "dispatched").increment();
+            } catch (RuntimeException e) {
+                int attempts = event.getAttempts() + 1;
+                if (attempts >= maxAttempts) {
+                    deadLetter(collection, aggregateId, eventDocument, attempts, e);
+                    handled.add(event.getEventId());
+                    continue;
+                }
+                retryLater(collection, aggregateId, owner, event, attempts, e);
+                break;
+            }
+        }
+
+        Update release = new Update().unset(LOCK);
+        if (!handled.isEmpty()) {
+            release.pull(PENDING_EVENTS, Query.query(Criteria.where("event_id").in(handled)));
+        }
+        mongoTemplate.updateFirst(
+            Query.query(Criteria.where("_id").is(aggregateId).and(LOCK + ".owner").is(owner)), release, collection);
+        return handled.size();
+    }
+
+    private void retryLater(
+            String collection, Object aggregateId, String owner, PendingDomainEvent event, int attempts, RuntimeException error) {
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20)));
+        mongoTemplate.updateFirst(
+            Query.query(Criteria.where("_id").is(aggregateId)
+                .and(LOCK + ".owner").is(owner)
+                .and(PENDING_EVENTS + ".event_id").is(event.getEventId())),
+            new Update()
+                .set(PENDING_EVENTS + ".$.attempts", attempts)
+                .set(PENDING_EVENTS + ".$.next_attempt_at", nextAttemptAt)
+                .set(PENDING_EVENTS + ".$.last_error", describe(error)),
+            collection);
+        eventsCounter.withTags("collection", collection, "outcome", "failed").increment();
+        LOGGER.warn("Dispatching {} event {} of {} failed (attempt {} of {}), retrying at {}",
+            event.getType(), event.getEventId(), aggregateId, attempts, maxAttempts, nextAttemptAt, error);
+    }
+
+    private void deadLetter(
+            String collection, Object aggregateId, Document eventDocument, int attempts, RuntimeException error) {
+        mongoTemplate.insert(new Document("collection", collection)
+            .append("aggregate_id", aggregateId)
+            .append("event", eventDocument)
+            .append("attempts", attempts)
+            .append("last_error", describe(error))
+            .append("dead_lettered_at", LocalDateTime.now()), DEAD_LETTERS_COLLECTION);
+        eventsCounter.withTags("collection", collection, "outcome", "dead_lettered").increment();
+        LOGGER.error("Event {} of {} failed {} times and was moved to {}",
+            eventDocument.get("event_id"), aggregateId, attempts, DEAD_LETTERS_COLLECTION, error);
+    }
+
+    private static Criteria claimable(LocalDateTime now) {
+        // The event_id condition matches the partial filter of the pending events index
+        return Criteria.where(PENDING_EVENTS + ".event_id").exists(true)
+            .andOperator(
+                new Criteria().orOperator(
+                    Criteria.where(LOCK).exists(false),
+                    Criteria.where(LOCK + ".expires_at").lt(now)),
+                // Events behind the first one wait for it, so only its retry time matters
+                new Criteria().orOperator(
+                    Criteria.where(FIRST_EVENT_DUE_AT).is(null),
+                    Criteria.where(FIRST_EVENT_DUE_AT).lte(now)));
+    }
+
+    private static String describe(RuntimeException error) {
+        String description = error.getClass().getName() + ": " + error.getMessage();
+        return description.length() > MAX_ERROR_LENGTH ? description.substring(0, MAX_ERROR_LENGTH) : description;
+    }
+}
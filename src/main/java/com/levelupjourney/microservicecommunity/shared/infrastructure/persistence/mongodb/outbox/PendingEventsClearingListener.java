@@ -0,0 +1,23 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.outbox;
+
+import com.levelupjourney.microservicecommunity.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Clears the pending events of an aggregate once it has been written.
+ *
+ * The events were written to the pending_events outbox of the document along
+ * with the change, and the relay dispatches them from there, so keeping them
+ * in the aggregate only makes its list grow for as long as it is held.
+ * Template inserts and bulk inserts both raise the after-save event.
+ */
+@Component
+public class PendingEventsClearingListener extends AbstractMongoEventListener<AuditableAbstractAggregateRoot<?>> {
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<AuditableAbstractAggregateRoot<?>> event) {
+        event.getSource().clearPendingEvents();
+    }
+}
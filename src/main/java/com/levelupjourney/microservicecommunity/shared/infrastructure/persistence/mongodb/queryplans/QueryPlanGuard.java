@@ -0,0 +1,178 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.queryplans;
+
+import com.mongodb.MongoException;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Explains the MongoDB queries issued by a piece of code and checks their plans.
+ * Used by repository verifiers to catch queries without a supporting index.
+ *
+ * While a verification runs, the guard captures the read commands (find,
+ * aggregate, count, distinct) the calling thread sends through the driver.
+ * Each captured command is then explained with executionStats verbosity and
+ * rejected if its plan contains a COLLSCAN stage, or if it examined many more
+ * documents than it returned.
+ *
+ * Meant for startup and test runs against a seeded database: explain executes
+ * the query, so it is not run on regular traffic.
+ */
+@Component
+public class QueryPlanGuard implements CommandListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryPlanGuard.class);
+    private static final Set<String> EXPLAINABLE_COMMANDS = Set.of("find", "aggregate", "count", "distinct");
+    private static final Set<String> SESSION_FIELDS = Set.of("lsid", "txnNumber", "autocommit", "startTransaction");
+
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final double maxDocsExaminedRatio;
+    private final ThreadLocal<List<BsonDocument>> capturedCommands = new ThreadLocal<>();
+
+    public QueryPlanGuard(
+            ObjectProvider<MongoTemplate> mongoTemplate,
+            @Value("${mongodb.query-plan-guard.max-docs-examined-ratio:10}") double maxDocsExaminedRatio) {
+        // MongoTemplate is resolved lazily, the client it is built on depends on this listener
+        this.mongoTemplate = mongoTemplate;
+        this.maxDocsExaminedRatio = maxDocsExaminedRatio;
+    }
+
+    /**
+     * Runs a query and checks the plans of the commands it issued.
+     * Commands the server cannot explain are reported as violations.
+     *
+     * @param query the name of the query, used in violations
+     * @param invocation the code issuing the query on the calling thread
+     * @param allowCollectionScan whether a full collection scan is expected, as for unfiltered listings
+     * @return the violations found, empty if every plan is acceptable
+     */
+    public List<QueryPlanViolation> verify(String query, Runnable invocation, boolean allowCollectionScan) {
+        List<BsonDocument> commands = new ArrayList<>();
+        capturedCommands.set(commands);
+        try {
+            invocation.run();
+        } finally {
+            capturedCommands.remove();
+        }
+
+        if (commands.isEmpty()) {
+            LOGGER.debug("Query {} issued no explainable command", query);
+        }
+        List<QueryPlanViolation> violations = new ArrayList<>();
+        for (BsonDocument command : commands) {
+            try {
+                check(query, command, explain(command), allowCollectionScan, violations);
+            } catch (MongoException e) {
+                // A plan that cannot be inspected is not known to be good
+                violations.add(new QueryPlanViolation(query, command.toJson(),
+                    "plan could not be explained: " + e.getMessage()));
+            }
+        }
+        return violations;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        List<BsonDocument> commands = capturedCommands.get();
+        if (commands == null || !EXPLAINABLE_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+        // The event document is backed by a pooled buffer, so copy it before the event returns
+        BsonDocument command = new RawBsonDocument(event.getCommand(), new BsonDocumentCodec())
+            .decode(new BsonDocumentCodec());
+        command.keySet().removeIf(key -> key.startsWith("$") || SESSION_FIELDS.contains(key));
+        commands.add(command);
+    }
+
+    private BsonDocument explain(BsonDocument command) {
+        BsonDocument explain = new BsonDocument("explain", command)
+            .append("verbosity", new BsonString("executionStats"));
+        return mongoTemplate.getObject().getDb().runCommand(explain, BsonDocument.class);
+    }
+
+    private void check(String query, BsonDocument command, BsonDocument explanation,
+                       boolean allowCollectionScan, List<QueryPlanViolation> violations) {
+        if (allowCollectionScan) {
+            // A full scan examines every document by design, so the ratio check does not apply either
+            return;
+        }
+        if (containsStage(explanation, "COLLSCAN")) {
+            violations.add(new QueryPlanViolation(query, command.toJson(),
+                "plan scans the whole collection (COLLSCAN)"));
+            return;
+        }
+
+        BsonDocument stats = findDocument(explanation, "executionStats");
+        if (stats == null) {
+            return;
+        }
+        long examined = longValue(stats, "totalDocsExamined");
+        long returned = longValue(stats, "nReturned");
+        if (examined > maxDocsExaminedRatio * Math.max(returned, 1)) {
+            violations.add(new QueryPlanViolation(query, command.toJson(),
+                "plan examined " + examined + " documents to return " + returned));
+        }
+    }
+
+    /**
+     * Looks for a plan stage anywhere in an explain output.
+     * Covers both classic and slot-based engine plans and aggregation explains,
+     * which nest the plan at different depths.
+     */
+    private static boolean containsStage(BsonValue value, String stage) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            BsonValue stageName = document.get("stage");
+            if (stageName != null && stageName.isString() && stage.equals(stageName.asString().getValue())) {
+                return true;
+            }
+            return document.values().stream().anyMatch(child -> containsStage(child, stage));
+        }
+        if (value.isArray()) {
+            return value.asArray().stream().anyMatch(child -> containsStage(child, stage));
+        }
+        return false;
+    }
+
+    private static BsonDocument findDocument(BsonDocument document, String key) {
+        BsonValue direct = document.get(key);
+        if (direct != null && direct.isDocument()) {
+            return direct.asDocument();
+        }
+        for (BsonValue child : document.values()) {
+            BsonDocument found = null;
+            if (child.isDocument()) {
+                found = findDocument(child.asDocument(), key);
+            } else if (child.isArray()) {
+                for (BsonValue element : child.asArray()) {
+                    if (element.isDocument() && (found = findDocument(element.asDocument(), key)) != null) {
+                        break;
+                    }
+                }
+            }
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private static long longValue(BsonDocument document, String key) {
+        BsonValue value = document.get(key);
+        return value != null && value.isNumber() ? value.asNumber().longValue() : 0;
+    }
+}
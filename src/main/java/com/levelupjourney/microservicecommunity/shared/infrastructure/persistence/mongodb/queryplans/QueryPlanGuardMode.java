@@ -0,0 +1,13 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.queryplans;
+
+/**
+ * How query plan violations found by a verifier are handled.
+ */
+public enum QueryPlanGuardMode {
+    /** Query plans are not verified. */
+    OFF,
+    /** Violations are logged as warnings. */
+    WARN,
+    /** Violations are logged and fail application startup. */
+    FAIL
+}
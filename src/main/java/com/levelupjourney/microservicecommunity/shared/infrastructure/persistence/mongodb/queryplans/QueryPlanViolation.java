@@ -0,0 +1,11 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.queryplans;
+
+/**
+ * A query whose execution plan does not meet the guard's expectations.
+ *
+ * @param query the name of the verified query, usually the repository method
+ * @param command the MongoDB command that was explained, as JSON
+ * @param reason why the plan was rejected
+ */
+public record QueryPlanViolation(String query, String command, String reason) {
+}
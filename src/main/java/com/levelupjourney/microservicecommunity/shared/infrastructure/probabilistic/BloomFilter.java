@@ -0,0 +1,123 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.probabilistic;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over string values.
+ * Answers "definitely absent" or "possibly present"; it never yields false
+ * negatives, and false positives occur at roughly the configured rate as long
+ * as no more than the expected number of values are added.
+ */
+public class BloomFilter {
+
+    private static final double LN_2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    private BloomFilter(long bitCount, int hashFunctions) {
+        long wordCount = (bitCount + Long.SIZE - 1) / Long.SIZE;
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter is too large");
+        }
+        this.words = new AtomicLongArray((int) wordCount);
+        this.bitCount = wordCount * Long.SIZE;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Creates a filter sized for the given load and false-positive rate.
+     * When the optimal size exceeds the memory budget the filter is capped,
+     * which raises the effective false-positive rate but never causes false negatives.
+     * 
+     * @param expectedInsertions number of values expected to be added
+     * @param falsePositiveRate target false-positive rate, between 0 and 1 (exclusive)
+     * @param maxMemoryBytes upper bound for the size of the bit array
+     * @return a new, empty filter
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate, long maxMemoryBytes) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        if (maxMemoryBytes < Long.BYTES) {
+            throw new IllegalArgumentException("Memory budget is too small");
+        }
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+        // Budgets in bytes beyond Long.MAX_VALUE / 8 would overflow when converted to bits
+        long maxBits = maxMemoryBytes > Long.MAX_VALUE / Byte.SIZE ? Long.MAX_VALUE : maxMemoryBytes * Byte.SIZE;
+        long bits = Math.max(Long.SIZE, Math.min(optimalBits, maxBits));
+        int hashFunctions = (int) Math.max(1, Math.round((double) bits / expectedInsertions * LN_2));
+
+        return new BloomFilter(bits, hashFunctions);
+    }
+
+    /**
+     * Adds a value to the filter.
+     * 
+     * @param value the value to add
+     */
+    public void put(String value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            words.getAndAccumulate((int) (bit >>> 6), 1L << bit, (current, mask) -> current | mask);
+        }
+    }
+
+    /**
+     * Checks whether a value may have been added to the filter.
+     * 
+     * @param value the value to check
+     * @return false if the value was definitely never added, true otherwise
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the size of the bit array.
+     * 
+     * @return number of bits
+     */
+    public long bitSize() {
+        return bitCount;
+    }
+
+    /**
+     * Returns the number of hash functions applied per value.
+     * 
+     * @return number of hash functions
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private static long hash(String value, long seed) {
+        // FNV-1a over the UTF-16 code units, finished with the MurmurHash3 64-bit mixer
+        long hash = seed ^ 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,14 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.scheduling.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration.
+ * Enables @Scheduled background jobs; the scheduler pool is configured
+ * through the spring.task.scheduling.* properties.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,51 @@
+package com.levelupjourney.microservicecommunity.bounded.application.internal.commandservices;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.CreateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.InMemoryMongoServer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Write coalescing of detail updates against an in-memory MongoDB stand-in.
+ */
+@SpringBootTest(properties = "sample-aggregates.write-coalescing.enabled=true")
+class SampleAggregateUpdateCoalescerTests {
+
+    @Autowired
+    private SampleAggregateUpdateCoalescer updateCoalescer;
+
+    @Autowired
+    private SampleAggregateCommandService commandService;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", InMemoryMongoServer::connectionUri);
+    }
+
+    @Test
+    @DirtiesContext
+    void writesUpdatesSubmittedAfterShutdownRightAway() throws Exception {
+        commandService.handle(new CreateSampleAggregateCommand("coalescer-shut-down", "Created", null));
+        updateCoalescer.shutdown();
+
+        CompletableFuture<Optional<SampleAggregateRoot>> first =
+            updateCoalescer.submit(new UpdateSampleAggregateCommand("coalescer-shut-down", "First", null));
+        CompletableFuture<Optional<SampleAggregateRoot>> second =
+            updateCoalescer.submit(new UpdateSampleAggregateCommand("coalescer-shut-down", "Second", null));
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).map(SampleAggregateRoot::getName).contains("First");
+        assertThat(second.get(5, TimeUnit.SECONDS)).map(SampleAggregateRoot::getName).contains("Second");
+    }
+}
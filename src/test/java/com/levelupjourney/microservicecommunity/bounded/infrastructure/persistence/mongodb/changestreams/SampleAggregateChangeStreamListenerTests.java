@@ -0,0 +1,107 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.changestreams;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories.SampleAggregateRepository;
+import com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.InMemoryMongoServer;
+import com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.changestreams.ChangeStreamResumeTokenStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Recovery of the sample aggregates change stream against an in-memory
+ * MongoDB stand-in.
+ */
+@SpringBootTest(properties = {
+    "sample-aggregates.change-stream.enabled=true",
+    "sample-aggregates.change-stream.consumer-id=change-stream-tests",
+    "sample-aggregates.change-stream.restart-backoff=PT0.05S"
+})
+class SampleAggregateChangeStreamListenerTests {
+
+    private static final String LISTENER_NAME = "sample_aggregates:change-stream-tests";
+
+    @Autowired
+    private SampleAggregateChangeStreamListener listener;
+
+    @Autowired
+    private ChangeStreamResumeTokenStore resumeTokenStore;
+
+    @Autowired
+    private SampleAggregateRepository sampleAggregateRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ChangeRecorder changeRecorder;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", InMemoryMongoServer::connectionUri);
+    }
+
+    @Test
+    void restartsFromNowWhenTheResumeTokenCannotBeResumed() {
+        listener.stop();
+        resumeTokenStore.save(LISTENER_NAME, new BsonDocument("_data", new BsonString("8200000000000000002B")));
+        double restartsBefore = restarts();
+
+        listener.start();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> restarts() > restartsBefore && listener.isActive());
+        assertThat(changeRecorder.changes()).anyMatch(SampleAggregateChangedEvent::isResync);
+
+        sampleAggregateRepository.insert(new SampleAggregateRoot("change-stream-after-restart", "Restarted", null));
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> changeRecorder.changes().stream()
+            .anyMatch(change -> "change-stream-after-restart".equals(change.businessId()) && change.isInsert()));
+    }
+
+    private double restarts() {
+        Counter counter = meterRegistry.find("sample.aggregates.change.stream.restarts").tag("resumed", "false").counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    /**
+     * Records the changes published by the listener.
+     */
+    static final class ChangeRecorder {
+
+        private final List<SampleAggregateChangedEvent> changes = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void on(SampleAggregateChangedEvent event) {
+            changes.add(event);
+        }
+
+        List<SampleAggregateChangedEvent> changes() {
+            return changes;
+        }
+    }
+
+    @TestConfiguration
+    static class ChangeRecordingConfiguration {
+
+        @Bean
+        ChangeRecorder changeRecorder() {
+            return new ChangeRecorder();
+        }
+    }
+}
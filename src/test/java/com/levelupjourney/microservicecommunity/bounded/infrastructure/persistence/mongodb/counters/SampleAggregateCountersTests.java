@@ -0,0 +1,125 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.counters;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.projections.SampleAggregateCounts;
+import com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories.SampleAggregateRepository;
+import com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.InMemoryMongoServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reconciliation of the aggregate counters with the collection. Aggregates
+ * are inserted through the repository, bypassing the counter updates of the
+ * command services, to simulate lost or late counter updates. Counter
+ * adjustments are flushed by the tests only.
+ */
+@SpringBootTest(properties = "sample-aggregates.counters.flush-interval=PT1H")
+class SampleAggregateCountersTests {
+
+    @Autowired
+    private SampleAggregateCounters sampleAggregateCounters;
+
+    @Autowired
+    private SampleAggregateRepository sampleAggregateRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", InMemoryMongoServer::connectionUri);
+    }
+
+    @BeforeEach
+    void settleCounters() {
+        // Two runs correct whatever drift earlier tests left behind
+        sampleAggregateCounters.reconcile();
+        sampleAggregateCounters.reconcile();
+        assertThat(sampleAggregateCounters.reconcile()).isTrue();
+    }
+
+    @Test
+    void correctsDriftObservedByTwoConsecutiveRuns() {
+        long active = countOf("ACTIVE");
+        insert("counters-lost-update");
+
+        assertThat(sampleAggregateCounters.reconcile()).isFalse();
+        assertThat(stored().countOf("ACTIVE")).isEqualTo(active);
+        assertThat(driftGauge()).isEqualTo(2);
+
+        assertThat(sampleAggregateCounters.reconcile()).isTrue();
+        assertThat(stored().countOf("ACTIVE")).isEqualTo(active + 1);
+        assertThat(stored().total()).isEqualTo(mongoTemplate.count(new Query(), SampleAggregateRoot.class));
+        assertThat(driftGauge()).isZero();
+    }
+
+    @Test
+    void doesNotCountAnUpdateThatWasInFlightTwice() {
+        long active = countOf("ACTIVE");
+        insert("counters-late-update");
+
+        assertThat(sampleAggregateCounters.reconcile()).isFalse();
+        // The counter update of the insert lands after the collection was counted
+        sampleAggregateCounters.recordCreated("ACTIVE", 1);
+
+        assertThat(sampleAggregateCounters.reconcile()).isTrue();
+        assertThat(stored().countOf("ACTIVE")).isEqualTo(active + 1);
+        assertThat(stored().total()).isEqualTo(mongoTemplate.count(new Query(), SampleAggregateRoot.class));
+    }
+
+    @Test
+    void keepsAdjustmentsMadeWhileCorrecting() {
+        insert("counters-drifted");
+        sampleAggregateCounters.reconcile();
+        sampleAggregateRepository.insert(new SampleAggregateRoot("counters-concurrent", "Concurrent", null));
+        sampleAggregateCounters.recordCreated("ACTIVE", 1);
+
+        assertThat(sampleAggregateCounters.reconcile()).isTrue();
+        assertThat(stored().total()).isEqualTo(mongoTemplate.count(new Query(), SampleAggregateRoot.class));
+        assertThat(stored().countOf("ACTIVE")).isEqualTo(countOf("ACTIVE"));
+    }
+
+    @Test
+    void keepsAdjustmentsInMemoryUntilFlushed() {
+        long active = stored().countOf("ACTIVE");
+
+        sampleAggregateCounters.recordTransition("ACTIVE", "INACTIVE", 1);
+        assertThat(stored().countOf("ACTIVE")).isEqualTo(active);
+
+        sampleAggregateCounters.flush();
+        assertThat(stored().countOf("ACTIVE")).isEqualTo(active - 1);
+
+        sampleAggregateCounters.recordTransition("INACTIVE", "ACTIVE", 1);
+        sampleAggregateCounters.flush();
+        assertThat(stored().countOf("ACTIVE")).isEqualTo(active);
+    }
+
+    private void insert(String businessId) {
+        sampleAggregateRepository.insert(new SampleAggregateRoot(businessId, "Aggregate " + businessId, null));
+    }
+
+    private SampleAggregateCounts stored() {
+        return sampleAggregateCounters.read().orElseThrow();
+    }
+
+    private long countOf(String status) {
+        return mongoTemplate.count(Query.query(Criteria.where("status").is(status)), SampleAggregateRoot.class);
+    }
+
+    private double driftGauge() {
+        return meterRegistry.get("sample.aggregates.counters.drift").gauge().value();
+    }
+}
@@ -0,0 +1,88 @@
+package com.levelupjourney.microservicecommunity.bounded.infrastructure.persistence.mongodb.repositories;
+
+import com.levelupjourney.microservicecommunity.bounded.domain.model.aggregates.SampleAggregateRoot;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.DeactivateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.commands.UpdateSampleAggregateCommand;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.BatchOperationOutcome;
+import com.levelupjourney.microservicecommunity.bounded.domain.model.valueobjects.SampleAggregateStatus;
+import com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.InMemoryMongoServer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-item results of the bulk write used by batches, when aggregates change
+ * between the status lookup of a batch and its bulk write.
+ */
+@SpringBootTest
+class SampleAggregateRepositoryBulkWriteTests {
+
+    @Autowired
+    private SampleAggregateRepository sampleAggregateRepository;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", InMemoryMongoServer::connectionUri);
+    }
+
+    @Test
+    void reportsEveryItemAppliedWhenAllMatch() {
+        insert("bulk-all-update");
+        insert("bulk-all-deactivate");
+
+        SampleAggregateBulkWriteResult result = sampleAggregateRepository.bulkWrite(
+            List.of(new SampleAggregateRoot("bulk-all-insert", "Inserted", null)),
+            List.of(new UpdateSampleAggregateCommand("bulk-all-update", "Updated", "Updated")),
+            List.of(new DeactivateSampleAggregateCommand("bulk-all-deactivate")));
+
+        assertThat(result).isEqualTo(SampleAggregateBulkWriteResult.ALL_APPLIED);
+    }
+
+    @Test
+    void reportsItemsOfAnAggregateRemovedMeanwhileAsNotFound() {
+        insert("bulk-removed");
+        insert("bulk-still-active");
+        sampleAggregateRepository.findByBusinessId("bulk-removed").ifPresent(sampleAggregateRepository::delete);
+
+        SampleAggregateBulkWriteResult result = sampleAggregateRepository.bulkWrite(
+            List.of(),
+            List.of(new UpdateSampleAggregateCommand("bulk-removed", "Updated", null)),
+            List.of(new DeactivateSampleAggregateCommand("bulk-removed"),
+                new DeactivateSampleAggregateCommand("bulk-still-active")));
+
+        assertThat(result.unmatchedUpdates()).isEqualTo(Map.of(0, BatchOperationOutcome.NOT_FOUND));
+        assertThat(result.unmatchedDeactivations()).isEqualTo(Map.of(0, BatchOperationOutcome.NOT_FOUND));
+        assertThat(sampleAggregateRepository.findByBusinessId("bulk-still-active"))
+            .hasValueSatisfying(aggregate -> assertThat(aggregate.getStatus()).isEqualTo(SampleAggregateStatus.INACTIVE));
+    }
+
+    @Test
+    void reportsItemsAtAnOutdatedVersionAsConflicts() {
+        insert("bulk-versioned");
+        sampleAggregateRepository.updateDetailsByBusinessId("bulk-versioned", "Moved on", null, 0L);
+
+        SampleAggregateBulkWriteResult result = sampleAggregateRepository.bulkWrite(
+            List.of(new SampleAggregateRoot("bulk-versioned", "Duplicate", null)),
+            List.of(new UpdateSampleAggregateCommand("bulk-versioned", "Stale", null, 0L),
+                new UpdateSampleAggregateCommand("bulk-versioned", "Current", null, 1L)),
+            List.of(new DeactivateSampleAggregateCommand("bulk-versioned", 0L)));
+
+        assertThat(result.rejectedInserts()).isEqualTo(Set.of(0));
+        assertThat(result.unmatchedUpdates()).isEqualTo(Map.of(0, BatchOperationOutcome.CONFLICT));
+        assertThat(result.unmatchedDeactivations()).isEqualTo(Map.of(0, BatchOperationOutcome.CONFLICT));
+        assertThat(sampleAggregateRepository.findByBusinessId("bulk-versioned"))
+            .hasValueSatisfying(aggregate -> assertThat(aggregate.getName()).isEqualTo("Current"));
+    }
+
+    private void insert(String businessId) {
+        sampleAggregateRepository.insert(new SampleAggregateRoot(businessId, "Aggregate " + businessId, null));
+    }
+}
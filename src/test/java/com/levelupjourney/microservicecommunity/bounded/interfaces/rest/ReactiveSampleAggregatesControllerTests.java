@@ -0,0 +1,90 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest;
+
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.CreateSampleAggregateResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.UpdateSampleAggregateResource;
+import com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.InMemoryMongoServer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Write endpoints of the WebFlux deployment against an in-memory MongoDB
+ * stand-in, answered with the same status codes as the Spring MVC ones.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveSampleAggregatesControllerTests {
+
+    private static final String BASE_PATH = "/api/v1/sample-aggregates";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", InMemoryMongoServer::connectionUri);
+    }
+
+    @Test
+    void createsAndRejectsDuplicates() {
+        create("reactive-create").expectStatus().isCreated().expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"");
+
+        create("reactive-create").expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    void updatesAtTheExpectedVersionOnly() {
+        create("reactive-update").expectStatus().isCreated();
+
+        update("reactive-update", "\"0\"").expectStatus().isOk().expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+        update("reactive-update", "\"0\"").expectStatus().isEqualTo(412);
+        update("reactive-missing", null).expectStatus().isNotFound();
+    }
+
+    @Test
+    void deactivatesOnce() {
+        create("reactive-deactivate").expectStatus().isCreated();
+
+        webTestClient.delete().uri(BASE_PATH + "/reactive-deactivate").exchange().expectStatus().isNoContent();
+        webTestClient.delete().uri(BASE_PATH + "/reactive-deactivate").exchange().expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    void reportsBatchOutcomesPerItem() {
+        create("reactive-batch-existing").expectStatus().isCreated();
+
+        webTestClient.post().uri(BASE_PATH + "/batch")
+            .bodyValue(Map.of("items", List.of(
+                Map.of("operation", "CREATE", "businessId", "reactive-batch-new", "name", "New"),
+                Map.of("operation", "CREATE", "businessId", "reactive-batch-existing", "name", "Duplicate"),
+                Map.of("operation", "DEACTIVATE", "businessId", "reactive-batch-existing"))))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.results[0].outcome").isEqualTo("CREATED")
+            .jsonPath("$.results[1].outcome").isEqualTo("CONFLICT")
+            .jsonPath("$.results[2].outcome").isEqualTo("DEACTIVATED");
+    }
+
+    private WebTestClient.ResponseSpec create(String businessId) {
+        return webTestClient.post().uri(BASE_PATH)
+            .bodyValue(new CreateSampleAggregateResource(businessId, "Sample " + businessId, "Created by a test"))
+            .exchange();
+    }
+
+    private WebTestClient.ResponseSpec update(String businessId, String ifMatch) {
+        WebTestClient.RequestBodySpec request = webTestClient.put().uri(BASE_PATH + "/" + businessId);
+        if (ifMatch != null) {
+            request.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return request.bodyValue(new UpdateSampleAggregateResource("Updated " + businessId, "Updated by a test")).exchange();
+    }
+}
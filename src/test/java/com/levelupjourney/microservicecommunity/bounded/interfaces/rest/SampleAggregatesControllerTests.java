@@ -0,0 +1,201 @@
+package com.levelupjourney.microservicecommunity.bounded.interfaces.rest;
+
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.CreateSampleAggregateResource;
+import com.levelupjourney.microservicecommunity.bounded.interfaces.rest.resources.UpdateSampleAggregateResource;
+import com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.InMemoryMongoServer;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Creation and update of sample aggregates against an in-memory MongoDB stand-in.
+ * A create is a single insert; duplicates are rejected by the unique
+ * business_id index, built before the application serves requests.
+ * Without write coalescing, an update is answered on the request thread.
+ *
+ * Commands are recorded on the threads serving the requests only, so the
+ * scheduled jobs of the application do not show up in the counts. Latency is
+ * checked by delaying each command as a remote MongoDB would and measuring
+ * how much the creates slow down.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class SampleAggregatesControllerTests {
+
+    private static final String BASE_PATH = "/api/v1/sample-aggregates";
+    private static final Duration ROUND_TRIP = Duration.ofMillis(50);
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private RequestCommandRecorder commandRecorder;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", InMemoryMongoServer::connectionUri);
+    }
+
+    @AfterEach
+    void removeRoundTripDelay() {
+        commandRecorder.delayEachCommandBy(Duration.ZERO);
+    }
+
+    @Test
+    void createIsASingleRoundTrip() {
+        List<String> commands = commandRecorder.record(() -> create("create-single-insert"));
+
+        assertThat(commands).containsExactly("insert");
+    }
+
+    @Test
+    void duplicateCreateIsAConflictInASingleRoundTrip() {
+        assertThat(create("create-duplicate").getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        List<String> commands = commandRecorder.record(() ->
+            assertThat(create("create-duplicate").getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+
+        assertThat(commands).containsExactly("insert");
+    }
+
+    @Test
+    void createLatencyIsOneRoundTrip() {
+        medianCreateLatency("create-latency-warmup-");
+        Duration local = medianCreateLatency("create-latency-local-");
+
+        commandRecorder.delayEachCommandBy(ROUND_TRIP);
+        Duration remote = medianCreateLatency("create-latency-remote-");
+
+        // Every round trip a create makes adds ROUND_TRIP to its latency
+        assertThat(remote.minus(local)).isBetween(ROUND_TRIP.dividedBy(2), ROUND_TRIP.multipliedBy(3).dividedBy(2));
+    }
+
+    @Test
+    void uncoalescedUpdateIsAnsweredWithoutAnAsyncDispatch() {
+        assertThat(create("update-synchronous").getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        List<String> commands = commandRecorder.record(() -> assertThat(restTemplate.exchange(
+                BASE_PATH + "/update-synchronous", HttpMethod.PUT,
+                new HttpEntity<>(new UpdateSampleAggregateResource("Updated", "Updated by a test")), String.class)
+            .getStatusCode()).isEqualTo(HttpStatus.OK));
+
+        assertThat(commands).containsExactly("findAndModify");
+        assertThat(commandRecorder.lastRequestStartedAsync()).isFalse();
+    }
+
+    private Duration medianCreateLatency(String businessIdPrefix) {
+        List<Long> latencies = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            long startedAt = System.nanoTime();
+            assertThat(create(businessIdPrefix + i).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            latencies.add(System.nanoTime() - startedAt);
+        }
+        latencies.sort(null);
+        return Duration.ofNanos(latencies.get(latencies.size() / 2));
+    }
+
+    private ResponseEntity<String> create(String businessId) {
+        CreateSampleAggregateResource resource =
+            new CreateSampleAggregateResource(businessId, "Sample " + businessId, "Created by a test");
+        return restTemplate.postForEntity(BASE_PATH, resource, String.class);
+    }
+
+    /**
+     * Records the commands the driver sends while serving requests, driver
+     * handshakes and monitoring left out, and optionally delays each of them
+     * to simulate the network round trip to a remote MongoDB.
+     * Registered as a bean, MongoDbConfiguration adds it to the client.
+     */
+    static final class RequestCommandRecorder extends OncePerRequestFilter implements CommandListener {
+
+        private static final Set<String> HOUSEKEEPING =
+            Set.of("hello", "ismaster", "ping", "buildinfo", "saslstart", "saslcontinue", "endsessions");
+
+        private final ThreadLocal<Boolean> servingRequest = new ThreadLocal<>();
+        private final List<String> commands = new CopyOnWriteArrayList<>();
+        private volatile Duration roundTripDelay = Duration.ZERO;
+        private volatile boolean lastRequestStartedAsync;
+
+        /**
+         * Returns the commands sent while serving the requests of an action.
+         */
+        List<String> record(Runnable action) {
+            commands.clear();
+            action.run();
+            return List.copyOf(commands);
+        }
+
+        void delayEachCommandBy(Duration delay) {
+            roundTripDelay = delay;
+        }
+
+        /**
+         * Tells whether the last request was handed over to an async dispatch.
+         */
+        boolean lastRequestStartedAsync() {
+            return lastRequestStartedAsync;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            servingRequest.set(true);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                servingRequest.remove();
+                lastRequestStartedAsync = request.isAsyncStarted();
+            }
+        }
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            if (servingRequest.get() == null || HOUSEKEEPING.contains(event.getCommandName().toLowerCase(Locale.ROOT))) {
+                return;
+            }
+            commands.add(event.getCommandName());
+            if (!roundTripDelay.isZero()) {
+                try {
+                    Thread.sleep(roundTripDelay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class CommandRecordingConfiguration {
+
+        @Bean
+        RequestCommandRecorder requestCommandRecorder() {
+            return new RequestCommandRecorder();
+        }
+    }
+}
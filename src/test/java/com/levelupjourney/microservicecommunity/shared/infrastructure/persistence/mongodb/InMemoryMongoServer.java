@@ -0,0 +1,55 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb;
+
+import de.bwaldvogel.mongo.MongoBackend;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.MongoVersion;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * In-memory MongoDB stand-in shared by the tests of a JVM.
+ * Tests point spring.data.mongodb.uri at it, so application contexts with the
+ * same configuration are cached and reused across test classes. The server
+ * is not shut down explicitly: cached contexts are closed at JVM exit and
+ * still talk to it, so it goes away with the JVM.
+ *
+ * The stand-in reports a MongoDB 6.0 wire version because the Java driver
+ * refuses the older versions it announces by default, and keeps an oplog so
+ * change streams can be opened on it.
+ */
+public final class InMemoryMongoServer {
+
+    private static final MongoVersion REPORTED_VERSION = new MongoVersion() {
+        @Override
+        public List<Integer> getVersionArray() {
+            return List.of(6, 0, 0);
+        }
+
+        @Override
+        public int getWireVersion() {
+            return 17;
+        }
+    };
+
+    private static InetSocketAddress address;
+
+    private InMemoryMongoServer() {
+    }
+
+    /**
+     * Returns the connection URI of the stand-in, starting it on first use.
+     *
+     * @return the MongoDB connection URI
+     */
+    public static synchronized String connectionUri() {
+        if (address == null) {
+            MongoBackend backend = new MemoryBackend().version(REPORTED_VERSION);
+            backend.enableOplog();
+            MongoServer server = new MongoServer(backend);
+            address = server.bind();
+        }
+        return "mongodb://" + address.getHostString() + ":" + address.getPort() + "/microservice-community-tests";
+    }
+}
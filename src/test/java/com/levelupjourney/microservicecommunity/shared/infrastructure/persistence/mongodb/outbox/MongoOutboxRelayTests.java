@@ -0,0 +1,91 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.outbox;
+
+import com.levelupjourney.microservicecommunity.shared.infrastructure.persistence.mongodb.InMemoryMongoServer;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Claiming of aggregates by the outbox relay when some of them wait for a retry.
+ * Aggregates are written straight to a collection of their own, which the
+ * scheduled dispatchers of the application never look at.
+ */
+@SpringBootTest
+@RecordApplicationEvents
+class MongoOutboxRelayTests {
+
+    private static final String COLLECTION = "outbox_relay_tests";
+
+    @Autowired
+    private MongoOutboxRelay outboxRelay;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", InMemoryMongoServer::connectionUri);
+    }
+
+    @BeforeEach
+    void clearCollection() {
+        mongoTemplate.remove(new Query(), COLLECTION);
+    }
+
+    @Test
+    void claimsNothingWhileEveryAggregateWaitsForARetry() {
+        LocalDateTime later = LocalDateTime.now().plusHours(1);
+        insert("waiting-1", later);
+        insert("waiting-2", later);
+        insert("waiting-3", later);
+
+        assertThat(outboxRelay.dispatch(COLLECTION, 2)).isZero();
+        assertThat(mongoTemplate.count(Query.query(Criteria.where("outbox_lock").exists(true)), COLLECTION)).isZero();
+        assertThat(applicationEvents.stream(String.class)).isEmpty();
+    }
+
+    @Test
+    void dispatchesDueAggregatesBehindAFullBatchWaitingForARetry() {
+        LocalDateTime later = LocalDateTime.now().plusHours(1);
+        insert("waiting-1", later);
+        insert("waiting-2", later);
+        insert("retry-due", LocalDateTime.now().minusSeconds(1));
+        insert("new", null);
+
+        assertThat(outboxRelay.dispatch(COLLECTION, 2)).isEqualTo(2);
+        assertThat(outboxRelay.dispatch(COLLECTION, 2)).isZero();
+        assertThat(applicationEvents.stream(String.class)).containsExactlyInAnyOrder("retry-due", "new");
+        assertThat(mongoTemplate.count(Query.query(Criteria.where("pending_events.event_id").exists(true)), COLLECTION))
+            .isEqualTo(2);
+    }
+
+    private void insert(String payload, LocalDateTime nextAttemptAt) {
+        Document event = new Document("event_id", UUID.randomUUID().toString())
+            .append("type", "String")
+            .append("payload", payload)
+            .append("occurred_at", LocalDateTime.now())
+            .append("attempts", nextAttemptAt == null ? 0 : 1);
+        if (nextAttemptAt != null) {
+            event.append("next_attempt_at", nextAttemptAt);
+        }
+        mongoTemplate.insert(new Document("pending_events", List.of(event)), COLLECTION);
+    }
+}
@@ -0,0 +1,66 @@
+package com.levelupjourney.microservicecommunity.shared.infrastructure.probabilistic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Sizing and accuracy of the Bloom filter.
+ */
+class BloomFilterTests {
+
+    @Test
+    void sizesForTheExpectedInsertionsAndFalsePositiveRate() {
+        // m = -n ln p / (ln 2)^2 = 9,585,059 bits and k = m / n ln 2 = 7 for n = 10^6 and p = 1%
+        BloomFilter filter = BloomFilter.create(1_000_000, 0.01, Long.MAX_VALUE);
+
+        assertThat(filter.bitSize()).isBetween(9_585_059L, 9_585_059L + Long.SIZE - 1);
+        assertThat(filter.bitSize() % Long.SIZE).isZero();
+        assertThat(filter.hashFunctions()).isEqualTo(7);
+    }
+
+    @Test
+    void keepsAtLeastOneWordForTinyFilters() {
+        BloomFilter filter = BloomFilter.create(1, 0.5, Long.MAX_VALUE);
+
+        assertThat(filter.bitSize()).isEqualTo(Long.SIZE);
+        assertThat(filter.hashFunctions()).isPositive();
+    }
+
+    @Test
+    void observesRoughlyTheConfiguredFalsePositiveRate() {
+        BloomFilter filter = BloomFilter.create(100_000, 0.01, Long.MAX_VALUE);
+        IntStream.range(0, 100_000).forEach(i -> filter.put("present-" + i));
+
+        assertThat(IntStream.range(0, 100_000)).allMatch(i -> filter.mightContain("present-" + i));
+        assertThat(falsePositiveRate(filter, 100_000)).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    void clampsToTheMemoryBudgetWithoutFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(100_000, 0.01, 16 * 1024);
+        IntStream.range(0, 100_000).forEach(i -> filter.put("present-" + i));
+
+        assertThat(filter.bitSize()).isEqualTo(16 * 1024 * Byte.SIZE);
+        assertThat(filter.hashFunctions()).isEqualTo(1);
+        assertThat(IntStream.range(0, 100_000)).allMatch(i -> filter.mightContain("present-" + i));
+        // With one hash function the rate is 1 - e^(-n/m), about 53% here, far above the target
+        assertThat(falsePositiveRate(filter, 100_000)).isBetween(0.45, 0.6);
+    }
+
+    @Test
+    void rejectsInvalidSizing() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BloomFilter.create(0, 0.01, 1024));
+        assertThatIllegalArgumentException().isThrownBy(() -> BloomFilter.create(1000, 0, 1024));
+        assertThatIllegalArgumentException().isThrownBy(() -> BloomFilter.create(1000, 1, 1024));
+        assertThatIllegalArgumentException().isThrownBy(() -> BloomFilter.create(1000, 0.01, Long.BYTES - 1));
+    }
+
+    private static double falsePositiveRate(BloomFilter filter, int probes) {
+        long falsePositives = IntStream.range(0, probes).filter(i -> filter.mightContain("absent-" + i)).count();
+        return (double) falsePositives / probes;
+    }
+}